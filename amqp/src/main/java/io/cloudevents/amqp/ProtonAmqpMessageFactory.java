@@ -21,6 +21,7 @@ import io.cloudevents.SpecVersion;
 import io.cloudevents.amqp.impl.AmqpConstants;
 import io.cloudevents.amqp.impl.ProtonAmqpBinaryMessageReader;
 import io.cloudevents.amqp.impl.ProtonAmqpMessageWriter;
+import io.cloudevents.core.data.BinaryCloudEventData;
 import io.cloudevents.core.message.MessageReader;
 import io.cloudevents.core.message.MessageWriter;
 import io.cloudevents.core.message.impl.GenericStructuredMessageReader;
@@ -69,10 +70,10 @@ public final class ProtonAmqpMessageFactory {
      * @throws CloudEventRWException if something goes wrong while resolving the {@link SpecVersion} or if the message has unknown encoding
      */
     public static MessageReader createReader(final String contentType, final ApplicationProperties props, @Nullable final Section body) throws CloudEventRWException {
-        final byte[] payload = AmqpConstants.getPayloadAsByteArray(body);
+        final BinaryCloudEventData payload = AmqpConstants.getPayloadAsCloudEventData(body);
         return MessageUtils.parseStructuredOrBinaryMessage(
             () -> contentType,
-            format -> new GenericStructuredMessageReader(format, payload),
+            format -> new GenericStructuredMessageReader(format, payload != null ? payload.toBytes() : null),
             () -> AmqpConstants.getApplicationProperty(props, AmqpConstants.APP_PROPERTY_SPEC_VERSION, String.class),
             sv -> new ProtonAmqpBinaryMessageReader(sv, props, contentType, payload)
         );
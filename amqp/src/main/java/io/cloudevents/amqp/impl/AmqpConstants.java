@@ -20,11 +20,15 @@ package io.cloudevents.amqp.impl;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
+import org.apache.qpid.proton.amqp.Binary;
 import org.apache.qpid.proton.amqp.messaging.AmqpValue;
 import org.apache.qpid.proton.amqp.messaging.ApplicationProperties;
 import org.apache.qpid.proton.amqp.messaging.Data;
 import org.apache.qpid.proton.amqp.messaging.Section;
 
+import io.cloudevents.core.data.BinaryCloudEventData;
+import io.cloudevents.core.data.ByteBufferCloudEventData;
+import io.cloudevents.core.data.BytesCloudEventData;
 import io.cloudevents.core.message.impl.MessageUtils;
 
 /**
@@ -106,20 +110,34 @@ public final class AmqpConstants {
      * @return         The payload bytes or {@code null} if the above stated conditions are not met.
      */
     public static byte[] getPayloadAsByteArray(final Section payload) {
+        final BinaryCloudEventData data = getPayloadAsCloudEventData(payload);
+        return data != null ? data.toBytes() : null;
+    }
+
+    /**
+     * Wraps a message payload in a {@link BinaryCloudEventData}, without copying the payload bytes
+     * when the body is a Data section.
+     * <p>
+     * The bytes are determined as described in {@link #getPayloadAsByteArray(Section)}.
+     *
+     * @param payload  The message payload to wrap.
+     * @return         The payload data or {@code null} if the payload contains no bytes.
+     */
+    public static BinaryCloudEventData getPayloadAsCloudEventData(final Section payload) {
         if (payload == null) {
             return null;
         }
 
         if (payload instanceof Data) {
-            final Data body = (Data) payload;
-            return body.getValue().getArray();
+            final Binary body = ((Data) payload).getValue();
+            return ByteBufferCloudEventData.wrap(body.getArray(), body.getArrayOffset(), body.getLength());
         } else if (payload instanceof AmqpValue) {
             final AmqpValue body = (AmqpValue) payload;
             if (body.getValue() instanceof byte[]) {
-                return (byte[]) body.getValue();
+                return BytesCloudEventData.wrap((byte[]) body.getValue());
             } else if (body.getValue() instanceof String &&
                     ((String) body.getValue()).length() > 0 ) {
-                return ((String) body.getValue()).getBytes(StandardCharsets.UTF_8);
+                return BytesCloudEventData.wrap(((String) body.getValue()).getBytes(StandardCharsets.UTF_8));
             }
         }
 
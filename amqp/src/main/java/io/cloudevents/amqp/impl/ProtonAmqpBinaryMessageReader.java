@@ -18,6 +18,7 @@
 package io.cloudevents.amqp.impl;
 
 import io.cloudevents.SpecVersion;
+import io.cloudevents.core.data.BinaryCloudEventData;
 import io.cloudevents.core.data.BytesCloudEventData;
 import io.cloudevents.core.message.impl.BaseGenericBinaryMessageReaderImpl;
 import org.apache.qpid.proton.amqp.messaging.ApplicationProperties;
@@ -57,7 +58,24 @@ public final class ProtonAmqpBinaryMessageReader extends BaseGenericBinaryMessag
      */
     public ProtonAmqpBinaryMessageReader(final SpecVersion version, final ApplicationProperties applicationProperties,
                                          final String contentType, final byte[] payload) {
-        super(version, payload != null && payload.length > 0 ? BytesCloudEventData.wrap(payload) : null);
+        this(version, applicationProperties, contentType, payload != null && payload.length > 0 ? BytesCloudEventData.wrap(payload) : null);
+    }
+
+    /**
+     * Create an instance of an AMQP message reader.
+     *
+     * @param version                  The version of the cloud event message.
+     * @param applicationProperties    The application properties of the AMQP message that contains
+     *                                 the cloud event metadata (i.e attributes and extensions).
+     *                                 The applicationProperties MUST not be {@code null}.
+     * @param contentType              The content-type property of the AMQP message or {@code null} if the message content type is unknown.
+     * @param payload                  The message payload or {@code null} if the message does not contain any payload.
+     *
+     * @throws NullPointerException if the applicationPropereties is {@code null}.
+     */
+    public ProtonAmqpBinaryMessageReader(final SpecVersion version, final ApplicationProperties applicationProperties,
+                                         final String contentType, final BinaryCloudEventData payload) {
+        super(version, payload != null && payload.length() > 0 ? payload : null);
         this.contentType = contentType;
         this.applicationProperties = Objects.requireNonNull(applicationProperties);
     }
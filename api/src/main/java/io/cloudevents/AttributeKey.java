@@ -0,0 +1,157 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents;
+
+import io.cloudevents.lang.Nullable;
+
+/**
+ * Registry of the <a href="https://github.com/cloudevents/spec/blob/v1.0/spec.md#context-attributes">context attributes</a>
+ * defined by the supported spec versions.
+ * <p>
+ * Resolve an attribute name once with {@link #lookup(String)}, then use the returned key to access the attribute
+ * of each event through {@link #get(CloudEvent)} without dispatching on the attribute name again.
+ * Because the keys are enum constants, their {@link #ordinal()} can be used to index precomputed tables.
+ */
+public enum AttributeKey {
+    SPECVERSION("specversion"),
+    ID("id"),
+    SOURCE("source"),
+    TYPE("type"),
+    DATACONTENTTYPE("datacontenttype"),
+    DATASCHEMA("dataschema"),
+    SUBJECT("subject"),
+    TIME("time"),
+    SCHEMAURL("schemaurl"),
+    DATACONTENTENCODING("datacontentencoding");
+
+    private final String name;
+    private final boolean v1;
+    private final boolean v03;
+
+    AttributeKey(String name) {
+        this.name = name;
+        this.v1 = SpecVersion.V1.getAllAttributes().contains(name);
+        this.v03 = SpecVersion.V03.getAllAttributes().contains(name);
+    }
+
+    /**
+     * @return the attribute name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @param version the spec version
+     * @return true if this attribute is defined by the provided spec version
+     */
+    public boolean isAttributeOf(SpecVersion version) {
+        switch (version) {
+            case V1:
+                return v1;
+            case V03:
+                return v03;
+        }
+        return false;
+    }
+
+    /**
+     * Get the value of this attribute from the provided event, with the same semantics of {@link CloudEvent#getAttribute(String)}.
+     *
+     * @param event the event to read the attribute from
+     * @return the attribute value or null if the event doesn't contain it
+     * @throws IllegalArgumentException if this attribute is not defined by the spec version of the event
+     */
+    @Nullable
+    public Object get(CloudEvent event) throws IllegalArgumentException {
+        switch (this) {
+            case SPECVERSION:
+                return event.getSpecVersion();
+            case ID:
+                return event.getId();
+            case SOURCE:
+                return event.getSource();
+            case TYPE:
+                return event.getType();
+            case DATACONTENTTYPE:
+                return event.getDataContentType();
+            case SUBJECT:
+                return event.getSubject();
+            case TIME:
+                return event.getTime();
+            case DATASCHEMA:
+            case SCHEMAURL:
+                if (isAttributeOf(event.getSpecVersion())) {
+                    return event.getDataSchema();
+                }
+                break;
+            case DATACONTENTENCODING:
+                if (isAttributeOf(event.getSpecVersion())) {
+                    return event.getAttribute(name);
+                }
+                break;
+        }
+        throw new IllegalArgumentException("Spec version " + event.getSpecVersion() + " doesn't have attribute named " + name);
+    }
+
+    /**
+     * Resolve the key of the provided attribute name.
+     *
+     * @param name the attribute name
+     * @return the key, or null if {@code name} is not an attribute of any supported spec version
+     */
+    @Nullable
+    public static AttributeKey lookup(String name) {
+        switch (name) {
+            case "specversion":
+                return SPECVERSION;
+            case "id":
+                return ID;
+            case "source":
+                return SOURCE;
+            case "type":
+                return TYPE;
+            case "datacontenttype":
+                return DATACONTENTTYPE;
+            case "dataschema":
+                return DATASCHEMA;
+            case "subject":
+                return SUBJECT;
+            case "time":
+                return TIME;
+            case "schemaurl":
+                return SCHEMAURL;
+            case "datacontentencoding":
+                return DATACONTENTENCODING;
+        }
+        return null;
+    }
+
+    /**
+     * Resolve the key of the provided attribute name, only if it's an attribute of the provided spec version.
+     *
+     * @param version the spec version
+     * @param name    the attribute name
+     * @return the key, or null if {@code name} is not an attribute of {@code version}
+     */
+    @Nullable
+    public static AttributeKey lookup(SpecVersion version, String name) {
+        AttributeKey key = lookup(name);
+        return key != null && key.isAttributeOf(version) ? key : null;
+    }
+}
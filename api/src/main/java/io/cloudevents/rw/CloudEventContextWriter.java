@@ -106,6 +106,24 @@ public interface CloudEventContextWriter {
         return withContextAttribute(name, value.toString());
     }
 
+    /**
+     * Set attribute with type {@link Integer}, without boxing the value.
+     * This setter should not be invoked for specversion, because the writer should
+     * already know the specversion or because it doesn't need it to correctly write the value.
+     * <p>
+     * The default implementation boxes the value and delegates to {@link #withContextAttribute(String, Number)},
+     * as the extensions of the events were previously written through that setter.
+     *
+     * @param name  name of the attribute
+     * @param value value of the attribute
+     * @return self
+     * @throws CloudEventRWException if anything goes wrong while writing this extension.
+     * @throws IllegalArgumentException if you're trying to set the specversion attribute.
+     */
+    default CloudEventContextWriter withContextAttribute(String name, int value) throws CloudEventRWException {
+        return withContextAttribute(name, (Number) Integer.valueOf(value));
+    }
+
     /**
      * Set attribute with type {@link Boolean} attribute.
      * This setter should not be invoked for specversion, because the writer should
@@ -121,6 +139,21 @@ public interface CloudEventContextWriter {
         return withContextAttribute(name, value.toString());
     }
 
+    /**
+     * Set attribute with type {@link Boolean}, without boxing the value.
+     * This setter should not be invoked for specversion, because the writer should
+     * already know the specversion or because it doesn't need it to correctly write the value.
+     *
+     * @param name  name of the attribute
+     * @param value value of the attribute
+     * @return self
+     * @throws CloudEventRWException if anything goes wrong while writing this extension.
+     * @throws IllegalArgumentException if you're trying to set the specversion attribute.
+     */
+    default CloudEventContextWriter withContextAttribute(String name, boolean value) throws CloudEventRWException {
+        return withContextAttribute(name, Boolean.valueOf(value));
+    }
+
     /**
      * Set attribute with a binary type.
      * This setter should not be invoked for specversion, because the writer should
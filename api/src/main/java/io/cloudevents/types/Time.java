@@ -23,8 +23,6 @@ import java.time.DateTimeException;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeParseException;
 
-import static java.time.format.DateTimeFormatter.ISO_OFFSET_DATE_TIME;
-
 /**
  * Utilities to handle the <a href="https://github.com/cloudevents/spec/blob/v1.0/spec.md#type-system">CloudEvent Attribute Timestamp type</a>
  */
@@ -41,7 +39,7 @@ public final class Time {
      * @throws DateTimeParseException if something went wrong when parsing the provided time.
      */
     public static OffsetDateTime parseTime(String time) throws DateTimeParseException {
-        return OffsetDateTime.parse(time);
+        return TimeCodec.parse(time);
     }
 
     /**
@@ -68,7 +66,7 @@ public final class Time {
      * @throws DateTimeException if something went wrong when serializing the provided time.
      */
     public static String writeTime(OffsetDateTime time) throws DateTimeException {
-        return ISO_OFFSET_DATE_TIME.format(time);
+        return TimeCodec.format(time);
     }
 
     /**
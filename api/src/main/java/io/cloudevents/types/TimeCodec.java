@@ -0,0 +1,218 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.types;
+
+import java.time.Month;
+import java.time.OffsetDateTime;
+import java.time.Year;
+import java.time.ZoneOffset;
+
+import static java.time.format.DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+
+/**
+ * Hand-rolled codec for the <a href="https://tools.ietf.org/html/rfc3339">RFC 3339</a> timestamps used by {@link Time}.
+ * <p>
+ * The common shapes ({@code yyyy-MM-ddTHH:mm:ss[.fraction](Z|+HH:mm)}) are parsed and formatted without going through
+ * {@link java.time.format.DateTimeFormatter}. Any other input falls back to {@code java.time}, so the accepted inputs,
+ * the produced outputs and the thrown exceptions are the same of {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME}.
+ * <p>
+ * Formatting caches the last formatted second, since consecutive events usually share it.
+ */
+final class TimeCodec {
+
+    private static final int[] POW10 = {1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000, 1000000000};
+    private static final int MAX_OFFSET_SECONDS = 18 * 3600;
+
+    private static volatile CachedSecond lastSecond;
+
+    private TimeCodec() {
+    }
+
+    static OffsetDateTime parse(String time) {
+        OffsetDateTime parsed = tryParse(time);
+        return parsed != null ? parsed : OffsetDateTime.parse(time);
+    }
+
+    static String format(OffsetDateTime time) {
+        int year = time.getYear();
+        int offsetSeconds = time.getOffset().getTotalSeconds();
+        if (year < 0 || year > 9999 || offsetSeconds % 60 != 0) {
+            return ISO_OFFSET_DATE_TIME.format(time);
+        }
+
+        long epochSecond = time.toEpochSecond();
+        CachedSecond cached = lastSecond;
+        if (cached == null || cached.epochSecond != epochSecond || cached.offsetSeconds != offsetSeconds) {
+            cached = new CachedSecond(epochSecond, offsetSeconds, formatSecond(time), time.getOffset().getId());
+            lastSecond = cached;
+        }
+
+        int nano = time.getNano();
+        if (nano == 0) {
+            return cached.withoutFraction;
+        }
+
+        char[] buf = new char[cached.second.length() + 10 + cached.offset.length()];
+        cached.second.getChars(0, cached.second.length(), buf, 0);
+        int pos = cached.second.length();
+        buf[pos++] = '.';
+        // Print the fraction without trailing zeros, like DateTimeFormatter does
+        int digits = 9;
+        while (nano % 10 == 0) {
+            nano /= 10;
+            digits--;
+        }
+        for (int i = pos + digits - 1; i >= pos; i--) {
+            buf[i] = (char) ('0' + nano % 10);
+            nano /= 10;
+        }
+        pos += digits;
+        cached.offset.getChars(0, cached.offset.length(), buf, pos);
+        pos += cached.offset.length();
+        return new String(buf, 0, pos);
+    }
+
+    /**
+     * @return the parsed time, or null if the input is not in one of the shapes handled by the fast path
+     */
+    private static OffsetDateTime tryParse(String s) {
+        int len = s.length();
+        if (len < 20 || s.charAt(4) != '-' || s.charAt(7) != '-' || (s.charAt(10) != 'T' && s.charAt(10) != 't')
+            || s.charAt(13) != ':' || s.charAt(16) != ':') {
+            return null;
+        }
+        int year = parseDigits(s, 0, 4);
+        int month = parseDigits(s, 5, 2);
+        int day = parseDigits(s, 8, 2);
+        int hour = parseDigits(s, 11, 2);
+        int minute = parseDigits(s, 14, 2);
+        int second = parseDigits(s, 17, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || hour < 0 || hour > 23
+            || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return null;
+        }
+        if (day > 28 && day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+
+        int i = 19;
+        int nano = 0;
+        if (s.charAt(i) == '.') {
+            int start = ++i;
+            while (i < len && isDigit(s.charAt(i))) {
+                if (i - start == 9) {
+                    return null;
+                }
+                nano = nano * 10 + (s.charAt(i) - '0');
+                i++;
+            }
+            if (i == start) {
+                return null;
+            }
+            nano *= POW10[9 - (i - start)];
+        }
+        if (i >= len) {
+            return null;
+        }
+
+        ZoneOffset offset;
+        char c = s.charAt(i);
+        if (c == 'Z' || c == 'z') {
+            if (i + 1 != len) {
+                return null;
+            }
+            offset = ZoneOffset.UTC;
+        } else if (c == '+' || c == '-') {
+            if (i + 6 != len || s.charAt(i + 3) != ':') {
+                return null;
+            }
+            int offsetHours = parseDigits(s, i + 1, 2);
+            int offsetMinutes = parseDigits(s, i + 4, 2);
+            if (offsetHours < 0 || offsetMinutes < 0 || offsetMinutes > 59) {
+                return null;
+            }
+            int offsetSeconds = offsetHours * 3600 + offsetMinutes * 60;
+            if (offsetSeconds > MAX_OFFSET_SECONDS) {
+                return null;
+            }
+            offset = ZoneOffset.ofTotalSeconds(c == '-' ? -offsetSeconds : offsetSeconds);
+        } else {
+            return null;
+        }
+
+        return OffsetDateTime.of(year, month, day, hour, minute, second, nano, offset);
+    }
+
+    /**
+     * @return the parsed number, or -1 if one of the characters is not a digit
+     */
+    private static int parseDigits(String s, int start, int length) {
+        int value = 0;
+        for (int i = start; i < start + length; i++) {
+            char c = s.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static String formatSecond(OffsetDateTime time) {
+        char[] buf = new char[19];
+        writeDigits(buf, 0, time.getYear(), 4);
+        buf[4] = '-';
+        writeDigits(buf, 5, time.getMonthValue(), 2);
+        buf[7] = '-';
+        writeDigits(buf, 8, time.getDayOfMonth(), 2);
+        buf[10] = 'T';
+        writeDigits(buf, 11, time.getHour(), 2);
+        buf[13] = ':';
+        writeDigits(buf, 14, time.getMinute(), 2);
+        buf[16] = ':';
+        writeDigits(buf, 17, time.getSecond(), 2);
+        return new String(buf);
+    }
+
+    private static void writeDigits(char[] buf, int start, int value, int length) {
+        for (int i = start + length - 1; i >= start; i--) {
+            buf[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static final class CachedSecond {
+        private final long epochSecond;
+        private final int offsetSeconds;
+        private final String second;
+        private final String offset;
+        private final String withoutFraction;
+
+        private CachedSecond(long epochSecond, int offsetSeconds, String second, String offset) {
+            this.epochSecond = epochSecond;
+            this.offsetSeconds = offsetSeconds;
+            this.second = second;
+            this.offset = offset;
+            this.withoutFraction = second + offset;
+        }
+    }
+}
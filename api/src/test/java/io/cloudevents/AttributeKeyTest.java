@@ -0,0 +1,28 @@
+package io.cloudevents;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AttributeKeyTest {
+
+    @Test
+    void lookup() {
+        for (AttributeKey key : AttributeKey.values()) {
+            assertThat(AttributeKey.lookup(key.getName())).isSameAs(key);
+        }
+        assertThat(AttributeKey.lookup("anextension")).isNull();
+        assertThat(AttributeKey.lookup(SpecVersion.V1, "schemaurl")).isNull();
+        assertThat(AttributeKey.lookup(SpecVersion.V03, "schemaurl")).isSameAs(AttributeKey.SCHEMAURL);
+    }
+
+    @Test
+    void isAttributeOf() {
+        for (SpecVersion version : SpecVersion.values()) {
+            for (AttributeKey key : AttributeKey.values()) {
+                assertThat(key.isAttributeOf(version))
+                    .isEqualTo(version.getAllAttributes().contains(key.getName()));
+            }
+        }
+    }
+}
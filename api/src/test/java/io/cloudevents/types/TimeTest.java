@@ -26,9 +26,12 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static java.time.format.DateTimeFormatter.ISO_OFFSET_DATE_TIME;
 import static org.assertj.core.api.Assertions.assertThatCode;
 
 public class TimeTest {
@@ -61,6 +64,80 @@ public class TimeTest {
         ))).isEqualTo("2020-08-03T18:10:00+02:00");
     }
 
+    @ParameterizedTest
+    @MethodSource("jdkCompatibilityArguments")
+    void testParseSameAsJdk(String ts) {
+        assertThat(Time.parseTime(ts))
+            .isEqualTo(OffsetDateTime.parse(ts));
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidDateArguments")
+    void testParseInvalidSameAsJdk(String ts) {
+        assertThatCode(() -> Time.parseTime(ts))
+            .isInstanceOf(DateTimeParseException.class);
+    }
+
+    @Test
+    void testWriteSameAsJdk() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            OffsetDateTime time = OffsetDateTime.of(
+                LocalDateTime.of(
+                    random.nextInt(10000),
+                    1 + random.nextInt(12),
+                    1 + random.nextInt(28),
+                    random.nextInt(24),
+                    random.nextInt(60),
+                    random.nextInt(60),
+                    random.nextBoolean() ? 0 : random.nextInt(1000000000)
+                ),
+                ZoneOffset.ofTotalSeconds((random.nextInt(18 * 4 * 2 + 1) - 18 * 4) * 15 * 60)
+            );
+            assertThat(Time.writeTime(time))
+                .isEqualTo(ISO_OFFSET_DATE_TIME.format(time));
+            assertThat(Time.parseTime(Time.writeTime(time)))
+                .isEqualTo(time);
+        }
+    }
+
+    @Test
+    void testWriteFallback() {
+        OffsetDateTime time = OffsetDateTime.of(
+            LocalDateTime.of(12020, 8, 3, 18, 10, 0, 120),
+            ZoneOffset.ofHoursMinutesSeconds(2, 0, 30)
+        );
+        assertThat(Time.writeTime(time))
+            .isEqualTo(ISO_OFFSET_DATE_TIME.format(time));
+    }
+
+    public static Stream<Arguments> jdkCompatibilityArguments() {
+        return Stream.of(
+            Arguments.of("1985-04-12T23:20:50.520Z"),
+            Arguments.of("1985-04-12t23:20:50.520z"),
+            Arguments.of("1985-04-12T23:20:50.123456789+01:00"),
+            Arguments.of("1985-04-12T23:20:50-00:00"),
+            Arguments.of("1985-04-12T23:20:50.Z"),
+            Arguments.of("2020-02-29T00:00:00+18:00"),
+            Arguments.of("1990-12-31T23:59Z"),
+            Arguments.of("1990-12-31T23:59:00+01:00:30"),
+            Arguments.of("+12020-12-31T23:59:00Z")
+        );
+    }
+
+    public static Stream<Arguments> invalidDateArguments() {
+        return Stream.of(
+            Arguments.of("2019-02-29T00:00:00Z"),
+            Arguments.of("2020-01-01T24:00:00Z"),
+            Arguments.of("2020-01-01T00:00:60Z"),
+            Arguments.of("2020-01-01T00:00:00.1234567891Z"),
+            Arguments.of("2020-01-01T00:00:00+18:30"),
+            Arguments.of("2020-01-01T00:00:00"),
+            Arguments.of("2020-01-01T00:00:00Zx"),
+            Arguments.of("2020-01-01 00:00:00Z")
+        );
+    }
+
     public static Stream<Arguments> parseDateArguments() {
         return Stream.of(
             Arguments.of("1985-04-12T23:20:50.520Z"),
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.bench.core;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static io.cloudevents.core.test.Data.*;
+
+/**
+ * Compares building events with a new builder per event against the pooled builders.
+ * Run with {@code -prof gc} to compare the allocation rate per operation.
+ */
+public class CloudEventBuilderBenchmark {
+
+    @State(Scope.Thread)
+    public static class Event {
+        public CloudEvent event = CloudEventBuilder.v1(V1_WITH_JSON_DATA_WITH_EXT).build();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void testNewBuilder(Blackhole bh) {
+        bh.consume(
+            CloudEventBuilder.v1()
+                .withId(ID)
+                .withType(TYPE)
+                .withSource(SOURCE)
+                .withData(DATACONTENTTYPE_JSON, DATA_JSON_SERIALIZED)
+                .withExtension("astring", "aaa")
+                .withExtension("aboolean", true)
+                .build()
+        );
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void testPooledBuilder(Blackhole bh) {
+        bh.consume(
+            CloudEventBuilder.pooledV1()
+                .withId(ID)
+                .withType(TYPE)
+                .withSource(SOURCE)
+                .withData(DATACONTENTTYPE_JSON, DATA_JSON_SERIALIZED)
+                .withExtension("astring", "aaa")
+                .withExtension("aboolean", true)
+                .build()
+        );
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void testNewBuilderFromEvent(Event event, Blackhole bh) {
+        bh.consume(
+            CloudEventBuilder.v1(event.event)
+                .withExtension("anumber", 10)
+                .build()
+        );
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void testPooledBuilderFromEvent(Event event, Blackhole bh) {
+        bh.consume(
+            CloudEventBuilder.pooledV1(event.event)
+                .withExtension("anumber", 10)
+                .build()
+        );
+    }
+
+}
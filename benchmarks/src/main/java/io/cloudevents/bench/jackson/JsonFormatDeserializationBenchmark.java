@@ -17,6 +17,7 @@
 
 package io.cloudevents.bench.jackson;
 
+import io.cloudevents.core.builder.CloudEventBuilder;
 import io.cloudevents.jackson.JsonFormat;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
@@ -31,11 +32,17 @@ public class JsonFormatDeserializationBenchmark {
 
         public byte[] eventWithJson;
         public byte[] eventWithXml;
+        public byte[] eventWithLargeBinary;
         public JsonFormat format = new JsonFormat();
 
         public DeserializationState() {
             eventWithJson = format.serialize(V1_WITH_JSON_DATA_WITH_EXT);
             eventWithXml = format.serialize(V1_WITH_XML_DATA);
+            eventWithLargeBinary = format.serialize(
+                CloudEventBuilder.v1(V1_WITH_JSON_DATA_WITH_EXT)
+                    .withData("application/octet-stream", new byte[500 * 1024])
+                    .build()
+            );
         }
     }
 
@@ -55,4 +62,20 @@ public class JsonFormatDeserializationBenchmark {
         );
     }
 
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void deserializeWithLargeBinaryData(DeserializationState state, Blackhole bh) {
+        bh.consume(
+            state.format.deserialize(state.eventWithLargeBinary)
+        );
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void deserializeAttributesWithLargeBinaryData(DeserializationState state, Blackhole bh) {
+        bh.consume(
+            state.format.deserializeAttributes(state.eventWithLargeBinary)
+        );
+    }
+
 }
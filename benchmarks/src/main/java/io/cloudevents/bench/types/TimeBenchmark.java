@@ -0,0 +1,60 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.bench.types;
+
+import io.cloudevents.types.Time;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.OffsetDateTime;
+
+import static java.time.format.DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+
+public class TimeBenchmark {
+
+    @State(Scope.Thread)
+    public static class Timestamp {
+        public String serialized = "2018-04-26T14:48:09.123456+02:00";
+        public OffsetDateTime time = OffsetDateTime.parse(serialized);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void testParseTime(Timestamp timestamp, Blackhole bh) {
+        bh.consume(Time.parseTime(timestamp.serialized));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void testJdkParseTime(Timestamp timestamp, Blackhole bh) {
+        bh.consume(OffsetDateTime.parse(timestamp.serialized));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void testWriteTime(Timestamp timestamp, Blackhole bh) {
+        bh.consume(Time.writeTime(timestamp.time));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void testJdkWriteTime(Timestamp timestamp, Blackhole bh) {
+        bh.consume(ISO_OFFSET_DATE_TIME.format(timestamp.time));
+    }
+
+}
@@ -190,6 +190,30 @@ public interface CloudEventBuilder extends CloudEventWriter<CloudEvent> {
      */
     CloudEventBuilder withExtension(@Nonnull String key, @Nonnull Boolean value);
 
+    /**
+     * Set an extension with provided key and integer value.
+     * The default implementation boxes the value, the builders provided by this module store it without boxing.
+     *
+     * @param key   key of the extension attribute
+     * @param value value of the extension attribute
+     * @return self
+     */
+    default CloudEventBuilder withExtension(@Nonnull String key, int value) {
+        return withExtension(key, (Number) value);
+    }
+
+    /**
+     * Set an extension with provided key and boolean value.
+     * The default implementation boxes the value, the builders provided by this module store it without boxing.
+     *
+     * @param key   key of the extension attribute
+     * @param value value of the extension attribute
+     * @return self
+     */
+    default CloudEventBuilder withExtension(@Nonnull String key, boolean value) {
+        return withExtension(key, (Boolean) value);
+    }
+
     /**
      * Set an extension with provided key and uri value
      *
@@ -286,6 +310,48 @@ public interface CloudEventBuilder extends CloudEventWriter<CloudEvent> {
         return new io.cloudevents.core.v03.CloudEventBuilder(event);
     }
 
+    /**
+     * Like {@link #v1()}, but returns the CloudEvent v1 builder owned by the calling thread, after {@link io.cloudevents.core.v1.CloudEventBuilder#reset()} it.
+     * <p>
+     * This avoids allocating a builder per event on hot paths. The returned builder must be used only by the calling thread
+     * and must not be retained: the next invocation of this method on the same thread resets it again.
+     *
+     * @return the reset CloudEvent v1 builder of the calling thread
+     */
+    static io.cloudevents.core.v1.CloudEventBuilder pooledV1() {
+        return ThreadLocalBuilders.V1.get().reset();
+    }
+
+    /**
+     * Like {@link #pooledV1()}, but fills the builder with the content of {@code event}.
+     *
+     * @param event event to bootstrap the builder
+     * @return the CloudEvent v1 builder of the calling thread filled with content of {@code event}
+     */
+    static io.cloudevents.core.v1.CloudEventBuilder pooledV1(@Nonnull CloudEvent event) {
+        return ThreadLocalBuilders.V1.get().reset(event);
+    }
+
+    /**
+     * Like {@link #v03()}, but returns the CloudEvent v0.3 builder owned by the calling thread, after {@link io.cloudevents.core.v03.CloudEventBuilder#reset()} it.
+     *
+     * @return the reset CloudEvent v0.3 builder of the calling thread
+     * @see #pooledV1()
+     */
+    static io.cloudevents.core.v03.CloudEventBuilder pooledV03() {
+        return ThreadLocalBuilders.V03.get().reset();
+    }
+
+    /**
+     * Like {@link #pooledV03()}, but fills the builder with the content of {@code event}.
+     *
+     * @param event event to bootstrap the builder
+     * @return the CloudEvent v0.3 builder of the calling thread filled with content of {@code event}
+     */
+    static io.cloudevents.core.v03.CloudEventBuilder pooledV03(@Nonnull CloudEvent event) {
+        return ThreadLocalBuilders.V03.get().reset(event);
+    }
+
     /**
      * Create a new builder for the specified {@link SpecVersion}
      *
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.builder;
+
+/**
+ * Holder of the per thread builders returned by {@link CloudEventBuilder#pooledV1()} and {@link CloudEventBuilder#pooledV03()}.
+ */
+final class ThreadLocalBuilders {
+
+    static final ThreadLocal<io.cloudevents.core.v1.CloudEventBuilder> V1 =
+        ThreadLocal.withInitial(io.cloudevents.core.v1.CloudEventBuilder::new);
+
+    static final ThreadLocal<io.cloudevents.core.v03.CloudEventBuilder> V03 =
+        ThreadLocal.withInitial(io.cloudevents.core.v03.CloudEventBuilder::new);
+
+    private ThreadLocalBuilders() {
+    }
+}
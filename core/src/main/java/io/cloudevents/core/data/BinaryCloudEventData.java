@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.data;
+
+import io.cloudevents.CloudEventData;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A {@link CloudEventData} backed by a contiguous sequence of bytes, which can be accessed without copying it.
+ * <p>
+ * Message writers should prefer {@link #asReadOnlyByteBuffer()} or the {@code writeTo} methods over {@link #toBytes()},
+ * because {@link #toBytes()} may need to copy the underlying bytes in a new array.
+ *
+ * @see BytesCloudEventData
+ * @see ByteBufferCloudEventData
+ */
+public interface BinaryCloudEventData extends CloudEventData {
+
+    /**
+     * @return the number of bytes of this data.
+     */
+    int length();
+
+    /**
+     * @return a read-only {@link ByteBuffer} view of this data. The returned buffer shares the content with this data,
+     * it's positioned at the first byte and its limit is {@link #length()}.
+     */
+    ByteBuffer asReadOnlyByteBuffer();
+
+    /**
+     * Create a view of a portion of this data, sharing the same content.
+     *
+     * @param offset the offset of the slice, relative to the start of this data
+     * @param length the length of the slice
+     * @return the slice view
+     * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of the bounds of this data
+     */
+    BinaryCloudEventData slice(int offset, int length) throws IndexOutOfBoundsException;
+
+    /**
+     * Write this data to the provided {@link OutputStream}.
+     *
+     * @param outputStream the stream to write to
+     * @throws IOException if something goes wrong while writing to the stream
+     */
+    void writeTo(OutputStream outputStream) throws IOException;
+
+    /**
+     * Write this data to the provided {@link WritableByteChannel}.
+     *
+     * @param channel the channel to write to
+     * @throws IOException if something goes wrong while writing to the channel
+     */
+    default void writeTo(WritableByteChannel channel) throws IOException {
+        ByteBuffer buffer = asReadOnlyByteBuffer();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Returns the provided data as {@link BinaryCloudEventData}. If {@code data} is not a {@link BinaryCloudEventData},
+     * it's converted invoking {@link CloudEventData#toBytes()}.
+     *
+     * @param data the data to convert
+     * @return the provided data as {@link BinaryCloudEventData}
+     */
+    static BinaryCloudEventData from(CloudEventData data) {
+        if (data instanceof BinaryCloudEventData) {
+            return (BinaryCloudEventData) data;
+        }
+        return BytesCloudEventData.wrap(data.toBytes());
+    }
+}
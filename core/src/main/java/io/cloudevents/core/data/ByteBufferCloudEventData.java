@@ -0,0 +1,142 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.data;
+
+import io.cloudevents.CloudEventData;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An implementation of {@link CloudEventData} that wraps a {@link ByteBuffer}, or a portion of a byte array, without copying it.
+ */
+public class ByteBufferCloudEventData implements BinaryCloudEventData {
+
+    private final ByteBuffer value;
+    private byte[] memoizedValue;
+
+    private ByteBufferCloudEventData(ByteBuffer value) {
+        Objects.requireNonNull(value);
+        // Detach from the position and limit of the provided buffer
+        this.value = value.slice();
+    }
+
+    @Override
+    public int length() {
+        return this.value.remaining();
+    }
+
+    @Override
+    public ByteBuffer asReadOnlyByteBuffer() {
+        return this.value.asReadOnlyBuffer();
+    }
+
+    @Override
+    public BinaryCloudEventData slice(int offset, int length) throws IndexOutOfBoundsException {
+        checkBounds(offset, length, length());
+        if (offset == 0 && length == length()) {
+            return this;
+        }
+        ByteBuffer buffer = this.value.duplicate();
+        buffer.position(offset);
+        buffer.limit(offset + length);
+        return new ByteBufferCloudEventData(buffer);
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        if (this.value.hasArray()) {
+            outputStream.write(this.value.array(), this.value.arrayOffset(), this.value.remaining());
+        } else {
+            outputStream.write(toBytes());
+        }
+    }
+
+    /**
+     * Returns the wrapped bytes. If the wrapped buffer is backed by an array which is exactly the portion wrapped by this data,
+     * the array itself is returned, otherwise the bytes are copied once in a new array and the copy is memoized.
+     *
+     * @return this data, represented as bytes.
+     */
+    @Override
+    public byte[] toBytes() {
+        if (this.memoizedValue == null) {
+            if (this.value.hasArray() && this.value.arrayOffset() == 0 && this.value.array().length == this.value.remaining()) {
+                this.memoizedValue = this.value.array();
+            } else {
+                byte[] bytes = new byte[this.value.remaining()];
+                this.value.duplicate().get(bytes);
+                this.memoizedValue = bytes;
+            }
+        }
+        return this.memoizedValue;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BinaryCloudEventData)) return false;
+        return this.value.equals(((BinaryCloudEventData) o).asReadOnlyByteBuffer());
+    }
+
+    @Override
+    public int hashCode() {
+        // Same algorithm of Arrays.hashCode(byte[]), to be consistent with BytesCloudEventData
+        int result = 1;
+        for (int i = this.value.position(); i < this.value.limit(); i++) {
+            result = 31 * result + this.value.get(i);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ByteBufferCloudEventData{" +
+            "value=" + Arrays.toString(toBytes()) +
+            '}';
+    }
+
+    /**
+     * @param value the buffer to wrap. The data wraps the bytes between the current position and the limit of the buffer.
+     * @return buffer wrapped in a {@link ByteBufferCloudEventData}, which implements {@link CloudEventData}.
+     */
+    public static ByteBufferCloudEventData wrap(ByteBuffer value) {
+        return new ByteBufferCloudEventData(value);
+    }
+
+    /**
+     * @param value  byte array to wrap
+     * @param offset the offset of the portion of the array to wrap
+     * @param length the length of the portion of the array to wrap
+     * @return portion of the byte array wrapped in a {@link ByteBufferCloudEventData}, which implements {@link CloudEventData}.
+     * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of the bounds of {@code value}
+     */
+    public static ByteBufferCloudEventData wrap(byte[] value, int offset, int length) throws IndexOutOfBoundsException {
+        checkBounds(offset, length, value.length);
+        return new ByteBufferCloudEventData(ByteBuffer.wrap(value, offset, length));
+    }
+
+    static void checkBounds(int offset, int length, int size) {
+        if (offset < 0 || length < 0 || offset > size - length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", size: " + size);
+        }
+    }
+}
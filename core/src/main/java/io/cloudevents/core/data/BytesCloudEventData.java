@@ -2,13 +2,16 @@ package io.cloudevents.core.data;
 
 import io.cloudevents.CloudEventData;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Objects;
 
 /**
  * An implementation of {@link CloudEventData} that wraps a byte array.
  */
-public class BytesCloudEventData implements CloudEventData {
+public class BytesCloudEventData implements BinaryCloudEventData {
 
     private final byte[] value;
 
@@ -26,12 +29,37 @@ public class BytesCloudEventData implements CloudEventData {
         return this.value;
     }
 
+    @Override
+    public int length() {
+        return this.value.length;
+    }
+
+    @Override
+    public ByteBuffer asReadOnlyByteBuffer() {
+        return ByteBuffer.wrap(this.value).asReadOnlyBuffer();
+    }
+
+    @Override
+    public BinaryCloudEventData slice(int offset, int length) throws IndexOutOfBoundsException {
+        if (offset == 0 && length == this.value.length) {
+            return this;
+        }
+        return ByteBufferCloudEventData.wrap(this.value, offset, length);
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        outputStream.write(this.value);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        BytesCloudEventData that = (BytesCloudEventData) o;
-        return Arrays.equals(value, that.value);
+        if (o instanceof BytesCloudEventData) {
+            return Arrays.equals(value, ((BytesCloudEventData) o).value);
+        }
+        // Other binary data implementations are equal if they hold the same bytes
+        return o instanceof BinaryCloudEventData && ByteBuffer.wrap(value).equals(((BinaryCloudEventData) o).asReadOnlyByteBuffer());
     }
 
     @Override
@@ -53,6 +53,13 @@ public class PojoCloudEventData<T> implements CloudEventData {
         return value;
     }
 
+    /**
+     * @return the converter used to implement {@link #toBytes()}, or null if the serialized value was provided when wrapping the POJO
+     */
+    public ToBytes<T> getMapper() {
+        return mapper;
+    }
+
     @Override
     public byte[] toBytes() {
         if (this.memoizedValue == null) {
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.data;
+
+import io.cloudevents.CloudEventData;
+import io.cloudevents.rw.CloudEventRWException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An implementation of {@link CloudEventData} that wraps an {@link InputStream}, allowing to carry payloads
+ * without buffering them in memory.
+ * <p>
+ * The wrapped stream can be consumed only once, either through {@link #getInputStream()}, {@link #writeTo(OutputStream)}
+ * or {@link #toBytes()}. {@link #toBytes()} buffers the whole stream in memory and memoizes the result, so after it's invoked
+ * the data can be read again.
+ */
+public class StreamCloudEventData implements CloudEventData, Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final InputStream stream;
+    private final long length;
+    private boolean consumed;
+    private byte[] memoizedValue;
+
+    private StreamCloudEventData(InputStream stream, long length) {
+        Objects.requireNonNull(stream);
+        this.stream = stream;
+        this.length = length;
+    }
+
+    /**
+     * @return the length of the stream in bytes, or {@code -1} if unknown.
+     */
+    public long getLength() {
+        return this.length;
+    }
+
+    /**
+     * @return true if the wrapped stream was already consumed, false otherwise.
+     */
+    public boolean isConsumed() {
+        return this.consumed;
+    }
+
+    /**
+     * Returns the wrapped stream. This method can be invoked only once, unless the data was buffered with {@link #toBytes()}.
+     *
+     * @return the wrapped stream
+     * @throws IllegalStateException if the stream was already consumed
+     */
+    public InputStream getInputStream() throws IllegalStateException {
+        if (this.memoizedValue != null) {
+            return new ByteArrayInputStream(this.memoizedValue);
+        }
+        consume();
+        return this.stream;
+    }
+
+    /**
+     * Transfer the wrapped stream to the provided {@link OutputStream}, without buffering it in memory.
+     * This method doesn't close the wrapped stream nor the provided {@link OutputStream}.
+     *
+     * @param outputStream the stream to write to
+     * @return the number of transferred bytes
+     * @throws IOException           if something goes wrong while transferring the data
+     * @throws IllegalStateException if the stream was already consumed
+     */
+    public long writeTo(OutputStream outputStream) throws IOException, IllegalStateException {
+        if (this.memoizedValue != null) {
+            outputStream.write(this.memoizedValue);
+            return this.memoizedValue.length;
+        }
+        consume();
+        return transfer(this.stream, outputStream);
+    }
+
+    /**
+     * Returns the bytes representation of this data, reading the whole wrapped stream in memory.
+     * The result is memoized.
+     *
+     * @return this data, represented as bytes.
+     * @throws IllegalStateException if the stream was already consumed
+     * @throws CloudEventRWException if something goes wrong while reading the stream
+     */
+    @Override
+    public byte[] toBytes() throws IllegalStateException, CloudEventRWException {
+        if (this.memoizedValue == null) {
+            consume();
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(
+                this.length > 0 && this.length <= Integer.MAX_VALUE ? (int) this.length : BUFFER_SIZE
+            );
+            try {
+                transfer(this.stream, buffer);
+                this.stream.close();
+            } catch (IOException e) {
+                throw CloudEventRWException.newDataConversion(e, InputStream.class.toString(), "byte[]");
+            }
+            this.memoizedValue = buffer.toByteArray();
+        }
+        return this.memoizedValue;
+    }
+
+    /**
+     * Close the wrapped stream.
+     *
+     * @throws IOException if the wrapped stream cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        this.stream.close();
+    }
+
+    @Override
+    public String toString() {
+        return "StreamCloudEventData{" +
+            "length=" + length +
+            ", consumed=" + consumed +
+            '}';
+    }
+
+    private void consume() {
+        if (this.consumed) {
+            throw new IllegalStateException("The data stream was already consumed");
+        }
+        this.consumed = true;
+    }
+
+    /**
+     * @param stream the stream to wrap
+     * @return stream wrapped in a {@link StreamCloudEventData}, which implements {@link CloudEventData}.
+     */
+    public static StreamCloudEventData wrap(InputStream stream) {
+        return new StreamCloudEventData(stream, -1);
+    }
+
+    /**
+     * @param stream the stream to wrap
+     * @param length the length of the stream in bytes, or {@code -1} if unknown
+     * @return stream wrapped in a {@link StreamCloudEventData}, which implements {@link CloudEventData}.
+     */
+    public static StreamCloudEventData wrap(InputStream stream, long length) {
+        return new StreamCloudEventData(stream, length);
+    }
+
+    /**
+     * @param channel the channel to wrap
+     * @param length  the length of the channel content in bytes, or {@code -1} if unknown
+     * @return channel wrapped in a {@link StreamCloudEventData}, which implements {@link CloudEventData}.
+     */
+    public static StreamCloudEventData wrap(ReadableByteChannel channel, long length) {
+        return new StreamCloudEventData(Channels.newInputStream(channel), length);
+    }
+
+    /**
+     * Drain the provided stream, keeping it in memory if it's not longer than {@code memoryThreshold} bytes,
+     * otherwise spilling it to a temporary file. The temporary file is deleted when the returned data is closed.
+     * <p>
+     * This is useful to release the source of the stream (e.g. a connection) while keeping the heap usage bounded.
+     * The provided stream is not closed.
+     *
+     * @param stream          the stream to drain
+     * @param memoryThreshold the max number of bytes to keep in memory
+     * @return the drained stream wrapped in a {@link StreamCloudEventData}, with a known length.
+     * @throws IOException if something goes wrong while draining the stream or writing the temporary file
+     */
+    public static StreamCloudEventData spill(InputStream stream, int memoryThreshold) throws IOException {
+        // Grow the buffer as the stream is read, so small payloads don't pay for the whole threshold
+        int limit = memoryThreshold + 1;
+        byte[] buffer = new byte[Math.min(limit, BUFFER_SIZE)];
+        int read = 0;
+        int n;
+        while (read < limit) {
+            if (read == buffer.length) {
+                buffer = Arrays.copyOf(buffer, (int) Math.min(limit, 2L * buffer.length));
+            }
+            if ((n = stream.read(buffer, read, buffer.length - read)) == -1) {
+                break;
+            }
+            read += n;
+        }
+        if (read <= memoryThreshold) {
+            return new StreamCloudEventData(new ByteArrayInputStream(buffer, 0, read), read);
+        }
+
+        Path file = Files.createTempFile("cloudevent-", ".data");
+        try (OutputStream outputStream = Files.newOutputStream(file)) {
+            outputStream.write(buffer, 0, read);
+            transfer(stream, outputStream);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        long length = Files.size(file);
+        return new StreamCloudEventData(Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE), length);
+    }
+
+    private static long transfer(InputStream inputStream, OutputStream outputStream) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long transferred = 0;
+        int n;
+        while ((n = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, n);
+            transferred += n;
+        }
+        return transferred;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.format;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.rw.CloudEventDataMapper;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
+
+/**
+ * An <a href="https://github.com/cloudevents/spec/blob/v1.0/http-protocol-binding.md#33-batched-content-mode">event batch format</a>
+ * specifies how to serialize a sequence of CloudEvents as a single sequence of bytes.
+ * <p>
+ * The batches are decoded incrementally: the returned {@link Iterator} reads the next event from the input only when it's requested,
+ * so the events of the batch don't need to be in memory at the same time.
+ * <p>
+ * {@link EventFormat} implementations implementing this interface are registered also as batch formats
+ * by the {@link io.cloudevents.core.provider.EventFormatProvider}.
+ *
+ * @see io.cloudevents.core.provider.EventFormatProvider#resolveBatchFormat(String)
+ */
+@ParametersAreNonnullByDefault
+public interface BatchEventFormat {
+
+    /**
+     * Serialize a batch of {@link CloudEvent}s to a byte array.
+     *
+     * @param events the events to serialize.
+     * @return the byte representation of the provided batch.
+     * @throws EventSerializationException if something goes wrong during serialization.
+     */
+    byte[] serializeBatch(Iterable<? extends CloudEvent> events) throws EventSerializationException;
+
+    /**
+     * Serialize a batch of {@link CloudEvent}s to the provided stream, one event at a time.
+     * The stream is flushed, but not closed.
+     *
+     * @param events the events to serialize.
+     * @param out    the stream to write to.
+     * @throws EventSerializationException if something goes wrong during serialization.
+     */
+    void serializeBatch(Iterable<? extends CloudEvent> events, OutputStream out) throws EventSerializationException;
+
+    /**
+     * Like {@link #deserializeBatch(byte[], CloudEventDataMapper)}, but with the identity {@link CloudEventDataMapper}.
+     *
+     * @see #deserializeBatch(byte[], CloudEventDataMapper)
+     */
+    default Iterator<CloudEvent> deserializeBatch(byte[] bytes) throws EventDeserializationException {
+        return this.deserializeBatch(bytes, CloudEventDataMapper.identity());
+    }
+
+    /**
+     * Deserialize a byte array to a batch of {@link CloudEvent}s.
+     * <p>
+     * The methods of the returned iterator throw {@link EventDeserializationException} if something goes wrong while decoding the next event.
+     *
+     * @param bytes  the serialized batch.
+     * @param mapper the mapper to use to map the data of each event.
+     * @return an iterator decoding the events of the batch.
+     * @throws EventDeserializationException if the provided bytes are not a batch.
+     */
+    Iterator<CloudEvent> deserializeBatch(byte[] bytes, CloudEventDataMapper<? extends CloudEventData> mapper) throws EventDeserializationException;
+
+    /**
+     * Like {@link #deserializeBatch(InputStream, CloudEventDataMapper)}, but with the identity {@link CloudEventDataMapper}.
+     *
+     * @see #deserializeBatch(InputStream, CloudEventDataMapper)
+     */
+    default Iterator<CloudEvent> deserializeBatch(InputStream in) throws EventDeserializationException {
+        return this.deserializeBatch(in, CloudEventDataMapper.identity());
+    }
+
+    /**
+     * Deserialize a batch of {@link CloudEvent}s from the provided stream, reading it while iterating.
+     * <p>
+     * The methods of the returned iterator throw {@link EventDeserializationException} if something goes wrong while decoding the next event.
+     * The stream is not closed.
+     *
+     * @param in     the stream containing the serialized batch.
+     * @param mapper the mapper to use to map the data of each event.
+     * @return an iterator decoding the events of the batch.
+     * @throws EventDeserializationException if the provided stream doesn't contain a batch.
+     */
+    Iterator<CloudEvent> deserializeBatch(InputStream in, CloudEventDataMapper<? extends CloudEventData> mapper) throws EventDeserializationException;
+
+    /**
+     * @return The content type to use when writing a batch with this {@link BatchEventFormat}.
+     */
+    String serializedBatchContentType();
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.format;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.rw.CloudEventDataMapper;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * {@link EventFormat} wrapper that memoizes the serialized form of the most recently serialized events,
+ * so fanning out the same {@link CloudEvent} instance to several structured mode {@link io.cloudevents.core.message.MessageWriter}s
+ * serializes it only once.
+ * <p>
+ * Events are matched by identity and referenced weakly, while the memory used by the cache is bounded by the maximum number of entries:
+ * when the cache is full, the oldest entry is evicted. The cache doesn't use locks, so the wrapper can be shared among threads.
+ * Because the serialized form is shared, the returned arrays must not be modified.
+ * If the data of a cached event is mutable and gets modified, the entry must be dropped using {@link #invalidate(CloudEvent)}.
+ * <p>
+ * To use it with {@link io.cloudevents.core.message.MessageWriter#writeStructured(CloudEvent, String)},
+ * register the wrapper in the {@link io.cloudevents.core.provider.EventFormatProvider}.
+ */
+@ParametersAreNonnullByDefault
+public final class CachingEventFormat implements EventFormat {
+
+    /**
+     * Default maximum number of cached entries.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 16;
+
+    private final EventFormat delegate;
+    private final AtomicReferenceArray<Entry> entries;
+    private final AtomicInteger next;
+
+    /**
+     * @param delegate the format to wrap
+     */
+    public CachingEventFormat(EventFormat delegate) {
+        this(delegate, DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * @param delegate   the format to wrap
+     * @param maxEntries maximum number of events to cache
+     */
+    public CachingEventFormat(EventFormat delegate, int maxEntries) {
+        Objects.requireNonNull(delegate);
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be greater than 0: " + maxEntries);
+        }
+        this.delegate = delegate;
+        this.entries = new AtomicReferenceArray<>(maxEntries);
+        this.next = new AtomicInteger();
+    }
+
+    /**
+     * @return the wrapped format
+     */
+    public EventFormat getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Serialize the event, or return its cached serialized form.
+     * <p>
+     * The returned array is shared with all the other callers serializing the same event instance
+     * and it's retained by the cache: it must be treated as read only.
+     *
+     * @param event the event to serialize
+     * @return the serialized form of the event, not to be modified
+     * @throws EventSerializationException if something goes wrong during serialization
+     */
+    @Override
+    public byte[] serialize(CloudEvent event) throws EventSerializationException {
+        byte[] value = lookup(event);
+        if (value == null) {
+            value = delegate.serialize(event);
+            store(event, value);
+        }
+        return value;
+    }
+
+    /**
+     * Write the serialized form of the event to the provided stream, serializing the event only if it's not cached.
+     * The cached array is not exposed to the caller.
+     *
+     * @param event the event to serialize
+     * @param out   the stream to write to
+     * @throws EventSerializationException if something goes wrong during serialization
+     */
+    @Override
+    public void serialize(CloudEvent event, OutputStream out) throws EventSerializationException {
+        byte[] value = serialize(event);
+        try {
+            out.write(value);
+        } catch (IOException e) {
+            throw new EventSerializationException(e);
+        }
+    }
+
+    /**
+     * @return false, as the cached array can be used as is by writers needing a byte array
+     */
+    @Override
+    public boolean isStreamSerializationSupported() {
+        return false;
+    }
+
+    @Override
+    public CloudEvent deserialize(byte[] bytes, CloudEventDataMapper<? extends CloudEventData> mapper) throws EventDeserializationException {
+        return delegate.deserialize(bytes, mapper);
+    }
+
+    @Override
+    public Set<String> deserializableContentTypes() {
+        return delegate.deserializableContentTypes();
+    }
+
+    @Override
+    public String serializedContentType() {
+        return delegate.serializedContentType();
+    }
+
+    /**
+     * Drop the serialized form of the provided event, if cached.
+     *
+     * @param event the event to invalidate
+     */
+    public void invalidate(CloudEvent event) {
+        for (int i = 0; i < entries.length(); i++) {
+            Entry entry = entries.get(i);
+            if (entry != null && entry.get() == event) {
+                entries.compareAndSet(i, entry, null);
+            }
+        }
+    }
+
+    /**
+     * Drop all the cached entries.
+     */
+    public void clear() {
+        for (int i = 0; i < entries.length(); i++) {
+            entries.set(i, null);
+        }
+    }
+
+    private byte[] lookup(CloudEvent event) {
+        for (int i = 0; i < entries.length(); i++) {
+            Entry entry = entries.get(i);
+            if (entry != null && entry.get() == event) {
+                return entry.serialized;
+            }
+        }
+        return null;
+    }
+
+    private void store(CloudEvent event, byte[] value) {
+        int slot = Math.floorMod(next.getAndIncrement(), entries.length());
+        entries.set(slot, new Entry(event, value));
+    }
+
+    private static final class Entry extends WeakReference<CloudEvent> {
+        private final byte[] serialized;
+
+        private Entry(CloudEvent event, byte[] serialized) {
+            super(event);
+            this.serialized = serialized;
+        }
+    }
+}
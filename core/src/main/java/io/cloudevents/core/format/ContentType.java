@@ -41,6 +41,10 @@ public enum ContentType {
      * Content type associated with the JSON event format
      */
     JSON("application/cloudevents+json"),
+    /**
+     * Content type associated with the JSON batch format
+     */
+    JSON_BATCH("application/cloudevents-batch+json"),
     /**
      * The content type for transports sending cloudevents in the protocol buffer format.
      */
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package io.cloudevents.core.format;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * A content type, as found in the {@code datacontenttype} attribute, classified by the kind of data it describes.
+ * <p>
+ * Instances are obtained through {@link #of(String)}, which parses and classifies each distinct content type string once
+ * and keeps the results in a cache shared by all the event formats, cleared when it reaches {@link #MAX_CACHED_ENTRIES} entries.
+ * This makes the content type checks performed for every serialized or deserialized event a lock-free map lookup.
+ */
+@ParametersAreNonnullByDefault
+public final class DataContentType {
+
+    /**
+     * Maximum number of cached content types.
+     */
+    public static final int MAX_CACHED_ENTRIES = 256;
+
+    private static final Pattern JSON_PATTERN = Pattern.compile("^(application|text)\\/([a-zA-Z]+\\+)?json(;.*)*$");
+    private static final Pattern XML_PATTERN = Pattern.compile("^(application|text)\\/([a-zA-Z]+\\+)?xml(;.*)*$");
+    private static final Pattern TEXT_PATTERN = Pattern.compile("^application\\/([a-zA-Z]+\\+)?(xml|json)(;.*)*$");
+
+    private static final Map<String, DataContentType> CACHE = new ConcurrentHashMap<>();
+
+    private final String value;
+    private final String type;
+    private final String subtype;
+    private final boolean json;
+    private final boolean xml;
+    private final boolean text;
+
+    private DataContentType(String value) {
+        this.value = value;
+        int slash = value.indexOf('/');
+        int end = value.indexOf(';');
+        if (end < 0) {
+            end = value.length();
+        }
+        if (slash < 0 || slash > end) {
+            this.type = value.substring(0, end).trim();
+            this.subtype = "";
+        } else {
+            this.type = value.substring(0, slash).trim();
+            this.subtype = value.substring(slash + 1, end).trim();
+        }
+        this.json = JSON_PATTERN.matcher(value).matches();
+        this.xml = XML_PATTERN.matcher(value).matches();
+        this.text = value.startsWith("text/") || TEXT_PATTERN.matcher(value).matches();
+    }
+
+    /**
+     * @param contentType the content type string
+     * @return the classified content type
+     */
+    public static DataContentType of(String contentType) {
+        DataContentType cached = CACHE.get(contentType);
+        if (cached != null) {
+            return cached;
+        }
+        if (CACHE.size() >= MAX_CACHED_ENTRIES) {
+            CACHE.clear();
+        }
+        // At worst concurrent callers classify the same content type twice
+        DataContentType parsed = new DataContentType(contentType);
+        cached = CACHE.putIfAbsent(contentType, parsed);
+        return cached != null ? cached : parsed;
+    }
+
+    /**
+     * @return the content type string
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * @return the type, for example {@code application} in {@code application/json; charset=utf-8}
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * @return the subtype, for example {@code json} in {@code application/json; charset=utf-8}, or an empty string if missing
+     */
+    public String getSubtype() {
+        return subtype;
+    }
+
+    /**
+     * @return true if this content type describes JSON data, like {@code application/json} or {@code text/vnd.foo+json}
+     */
+    public boolean isJson() {
+        return json;
+    }
+
+    /**
+     * @return true if this content type describes XML data, like {@code application/xml} or {@code text/vnd.foo+xml}
+     */
+    public boolean isXml() {
+        return xml;
+    }
+
+    /**
+     * @return true if this content type describes textual data, like {@code text/plain}, {@code application/json} or {@code application/xml}
+     */
+    public boolean isText() {
+        return text;
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -22,6 +22,8 @@ import io.cloudevents.CloudEventData;
 import io.cloudevents.rw.CloudEventDataMapper;
 
 import javax.annotation.ParametersAreNonnullByDefault;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Collections;
 import java.util.Set;
 
@@ -47,6 +49,36 @@ public interface EventFormat {
      */
     byte[] serialize(CloudEvent event) throws EventSerializationException;
 
+    /**
+     * Serialize a {@link CloudEvent} to the provided {@link OutputStream}, without closing it.
+     * <p>
+     * This allows to serialize the event into a reusable buffer. The default implementation writes the result of {@link #serialize(CloudEvent)},
+     * formats able to write the event directly to the stream should override it, together with {@link #isStreamSerializationSupported()}.
+     *
+     * @param event the event to serialize.
+     * @param out   the stream to write to.
+     * @throws EventSerializationException if something goes wrong during serialization.
+     */
+    default void serialize(CloudEvent event, OutputStream out) throws EventSerializationException {
+        try {
+            out.write(serialize(event));
+        } catch (IOException e) {
+            throw new EventSerializationException(e);
+        }
+    }
+
+    /**
+     * Writers which need the serialized event as a byte array use this to choose between {@link #serialize(CloudEvent)}
+     * and serializing into a reusable buffer with {@link #serialize(CloudEvent, OutputStream)}: when the latter just copies
+     * the result of the former, going through a buffer only adds copies.
+     *
+     * @return true if {@link #serialize(CloudEvent, OutputStream)} writes the event directly to the stream, false if it writes the
+     * result of {@link #serialize(CloudEvent)}. The default implementation returns false.
+     */
+    default boolean isStreamSerializationSupported() {
+        return false;
+    }
+
     /**
      * Like {@link #deserialize(byte[], CloudEventDataMapper)}, but with the identity {@link CloudEventDataMapper}.
      *
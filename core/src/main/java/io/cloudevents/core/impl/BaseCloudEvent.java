@@ -21,20 +21,18 @@ import io.cloudevents.CloudEvent;
 import io.cloudevents.CloudEventData;
 import io.cloudevents.rw.*;
 
-import java.net.URI;
-import java.time.OffsetDateTime;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
 public abstract class BaseCloudEvent implements CloudEvent, CloudEventReader, CloudEventContextReader {
 
     private final CloudEventData data;
+    // Always a CompactExtensionsMap
     protected final Map<String, Object> extensions;
 
     protected BaseCloudEvent(CloudEventData data, Map<String, Object> extensions) {
         this.data = data;
-        this.extensions = extensions != null ? extensions : new HashMap<>();
+        this.extensions = CompactExtensionsMap.copyOf(extensions);
     }
 
     @Override
@@ -65,24 +63,6 @@ public abstract class BaseCloudEvent implements CloudEvent, CloudEventReader, Cl
     }
 
     protected void readExtensions(CloudEventContextWriter writer) throws CloudEventRWException {
-        // TODO to be improved
-        for (Map.Entry<String, Object> entry : this.extensions.entrySet()) {
-            if (entry.getValue() instanceof String) {
-                writer.withContextAttribute(entry.getKey(), (String) entry.getValue());
-            } else if (entry.getValue() instanceof Number) {
-                writer.withContextAttribute(entry.getKey(), (Number) entry.getValue());
-            } else if (entry.getValue() instanceof Boolean) {
-                writer.withContextAttribute(entry.getKey(), (Boolean) entry.getValue());
-            } else if (entry.getValue() instanceof URI) {
-                writer.withContextAttribute(entry.getKey(), (URI) entry.getValue());
-            } else if (entry.getValue() instanceof OffsetDateTime) {
-                writer.withContextAttribute(entry.getKey(), (OffsetDateTime) entry.getValue());
-            } else if (entry.getValue() instanceof byte[]) {
-                writer.withContextAttribute(entry.getKey(), (byte[]) entry.getValue());
-            } else {
-                // This should never happen because we build that map only through our builders
-                throw new IllegalStateException("Illegal value inside extensions map: " + entry);
-            }
-        }
+        ((CompactExtensionsMap) this.extensions).writeTo(writer);
     }
 }
@@ -28,7 +28,6 @@ import io.cloudevents.rw.CloudEventRWException;
 import javax.annotation.Nonnull;
 import java.net.URI;
 import java.time.OffsetDateTime;
-import java.util.HashMap;
 import java.util.Map;
 
 import static io.cloudevents.core.v03.CloudEventV03.SPECVERSION;
@@ -39,7 +38,7 @@ public abstract class BaseCloudEventBuilder<SELF extends BaseCloudEventBuilder<S
     private final SELF self;
 
     protected CloudEventData data;
-    protected Map<String, Object> extensions = new HashMap<>();
+    protected Map<String, Object> extensions = new ExtensionsBuilderMap();
 
     @SuppressWarnings("unchecked")
     public BaseCloudEventBuilder() {
@@ -59,6 +58,15 @@ public abstract class BaseCloudEventBuilder<SELF extends BaseCloudEventBuilder<S
 
     protected abstract void setAttributes(CloudEventContext event);
 
+    /**
+     * Clear the data and the extensions of this builder, reusing the already allocated storage.
+     * Builders supporting reset use it to clear the state they don't own.
+     */
+    protected void clearDataAndExtensions() {
+        this.data = null;
+        this.extensions.clear();
+    }
+
     //TODO builder should accept data as Object and use data codecs (that we need to implement)
     // to encode data
 
@@ -128,6 +136,9 @@ public abstract class BaseCloudEventBuilder<SELF extends BaseCloudEventBuilder<S
     // **Number** Is NOT a valid CE Context atrribute type.
 
     public SELF withExtension(@Nonnull String key, @Nonnull Number value) {
+        if (value instanceof Integer) {
+            return withExtension(key, value.intValue());
+        }
         if (!isValidExtensionName(key)) {
             throw CloudEventRWException.newInvalidExtensionName(key);
         }
@@ -136,10 +147,15 @@ public abstract class BaseCloudEventBuilder<SELF extends BaseCloudEventBuilder<S
     }
 
     public SELF withExtension(@Nonnull String key, @Nonnull Integer value) {
+        return withExtension(key, value.intValue());
+    }
+
+    @Override
+    public SELF withExtension(@Nonnull String key, int value) {
         if (!isValidExtensionName(key)) {
             throw CloudEventRWException.newInvalidExtensionName(key);
         }
-        this.extensions.put(key, value);
+        putIntExtension(key, value);
         return self;
     }
 
@@ -151,6 +167,11 @@ public abstract class BaseCloudEventBuilder<SELF extends BaseCloudEventBuilder<S
         return self;
     }
 
+    @Override
+    public SELF withExtension(@Nonnull String key, boolean value) {
+        return withExtension(key, Boolean.valueOf(value));
+    }
+
     @Override
     public SELF withExtension(@Nonnull String key, @Nonnull URI value) {
         if (!isValidExtensionName(key)) {
@@ -178,6 +199,15 @@ public abstract class BaseCloudEventBuilder<SELF extends BaseCloudEventBuilder<S
         return self;
     }
 
+    private void putIntExtension(String key, int value) {
+        // Subclasses could have replaced the extensions map
+        if (this.extensions instanceof ExtensionsBuilderMap) {
+            ((ExtensionsBuilderMap) this.extensions).putInt(key, value);
+        } else {
+            this.extensions.put(key, value);
+        }
+    }
+
     @Override
     public SELF withoutExtension(@Nonnull String key) {
         this.extensions.remove(key);
@@ -193,7 +223,9 @@ public abstract class BaseCloudEventBuilder<SELF extends BaseCloudEventBuilder<S
     public SELF withExtension(@Nonnull CloudEventExtension extension) {
         for (String key : extension.getKeys()) {
             Object value = extension.getValue(key);
-            if (value != null) {
+            if (value instanceof Integer) {
+                putIntExtension(key, (Integer) value);
+            } else if (value != null) {
                 this.extensions.put(key, value);
             }
         }
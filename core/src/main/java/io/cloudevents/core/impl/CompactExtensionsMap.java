@@ -0,0 +1,247 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.impl;
+
+import io.cloudevents.rw.CloudEventContextWriter;
+import io.cloudevents.rw.CloudEventRWException;
+
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable {@link Map} of extensions backed by two arrays, used by the {@link BaseCloudEvent} implementations.
+ * <p>
+ * Events usually carry a handful of extensions, so a linear scan is as fast as hashing the key,
+ * while this layout requires far less memory than a {@link java.util.HashMap} and its entries.
+ * Integer values are kept unboxed in a parallel {@code int[]}, tagged in the values array by {@link #INT_VALUE},
+ * and boxed only when accessed through the {@link Map} interface.
+ * <p>
+ * Only the extensions use this layout: the context attributes are kept by the event implementations
+ * as already parsed fields, so reading them never parses or allocates.
+ */
+public final class CompactExtensionsMap extends AbstractMap<String, Object> {
+
+    /**
+     * Tag of the values slots whose value is stored in the {@code int[]} array.
+     */
+    static final Object INT_VALUE = new Object();
+
+    private static final CompactExtensionsMap EMPTY = new CompactExtensionsMap(new String[0], new Object[0], null);
+
+    private final String[] keys;
+    private final Object[] values;
+    private final int[] ints;
+    private Set<String> keySet;
+
+    private CompactExtensionsMap(String[] keys, Object[] values, int[] ints) {
+        this.keys = keys;
+        this.values = values;
+        this.ints = ints;
+    }
+
+    /**
+     * @param extensions the extensions to copy, could be null
+     * @return an immutable compact copy of the provided extensions
+     */
+    public static CompactExtensionsMap copyOf(Map<String, Object> extensions) {
+        if (extensions == null || extensions.isEmpty()) {
+            return EMPTY;
+        }
+        if (extensions instanceof CompactExtensionsMap) {
+            return (CompactExtensionsMap) extensions;
+        }
+        if (extensions instanceof ExtensionsBuilderMap) {
+            ExtensionsBuilderMap builderMap = (ExtensionsBuilderMap) extensions;
+            int size = builderMap.size();
+            return new CompactExtensionsMap(
+                Arrays.copyOf(builderMap.keys, size),
+                Arrays.copyOf(builderMap.values, size),
+                builderMap.ints != null ? Arrays.copyOf(builderMap.ints, size) : null
+            );
+        }
+        String[] keys = new String[extensions.size()];
+        Object[] values = new Object[keys.length];
+        int i = 0;
+        for (Map.Entry<String, Object> entry : extensions.entrySet()) {
+            keys[i] = Objects.requireNonNull(entry.getKey());
+            values[i] = entry.getValue();
+            i++;
+        }
+        return new CompactExtensionsMap(keys, values, null);
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int i = indexOf(key);
+        return i >= 0 ? valueAt(i) : null;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        for (int i = 0; i < keys.length; i++) {
+            action.accept(keys[i], valueAt(i));
+        }
+    }
+
+    /**
+     * Write all the extensions to the provided writer, using the typed setters of {@link CloudEventContextWriter}
+     * and without boxing the integer values.
+     *
+     * @param writer the writer
+     * @throws CloudEventRWException if the writer fails to write an extension
+     */
+    public void writeTo(CloudEventContextWriter writer) throws CloudEventRWException {
+        for (int i = 0; i < keys.length; i++) {
+            String key = keys[i];
+            Object value = values[i];
+            if (value == INT_VALUE) {
+                writer.withContextAttribute(key, ints[i]);
+            } else if (value instanceof String) {
+                writer.withContextAttribute(key, (String) value);
+            } else if (value instanceof Number) {
+                writer.withContextAttribute(key, (Number) value);
+            } else if (value instanceof Boolean) {
+                writer.withContextAttribute(key, ((Boolean) value).booleanValue());
+            } else if (value instanceof URI) {
+                writer.withContextAttribute(key, (URI) value);
+            } else if (value instanceof OffsetDateTime) {
+                writer.withContextAttribute(key, (OffsetDateTime) value);
+            } else if (value instanceof byte[]) {
+                writer.withContextAttribute(key, (byte[]) value);
+            } else {
+                // This should never happen because we build that map only through our builders
+                throw new IllegalStateException("Illegal value inside extensions map: " + key + "=" + value);
+            }
+        }
+    }
+
+    @Override
+    public Set<String> keySet() {
+        if (keySet == null) {
+            keySet = new AbstractSet<String>() {
+                @Override
+                public Iterator<String> iterator() {
+                    return new ArrayIterator<String>() {
+                        @Override
+                        String get(int i) {
+                            return keys[i];
+                        }
+                    };
+                }
+
+                @Override
+                public boolean contains(Object o) {
+                    return containsKey(o);
+                }
+
+                @Override
+                public int size() {
+                    return keys.length;
+                }
+            };
+        }
+        return keySet;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new ArrayIterator<Entry<String, Object>>() {
+                    @Override
+                    Entry<String, Object> get(int i) {
+                        return new SimpleImmutableEntry<>(keys[i], valueAt(i));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+        };
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 0;
+        for (int i = 0; i < keys.length; i++) {
+            h += keys[i].hashCode() ^ (values[i] == INT_VALUE ? ints[i] : Objects.hashCode(values[i]));
+        }
+        return h;
+    }
+
+    private Object valueAt(int i) {
+        Object value = values[i];
+        return value == INT_VALUE ? Integer.valueOf(ints[i]) : value;
+    }
+
+    private int indexOf(Object key) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private abstract class ArrayIterator<T> implements Iterator<T> {
+
+        private int next = 0;
+
+        abstract T get(int i);
+
+        @Override
+        public boolean hasNext() {
+            return next < keys.length;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return get(next++);
+        }
+    }
+}
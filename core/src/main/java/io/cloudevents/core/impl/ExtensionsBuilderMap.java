@@ -0,0 +1,210 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.impl;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import static io.cloudevents.core.impl.CompactExtensionsMap.INT_VALUE;
+
+/**
+ * Mutable {@link Map} of extensions used by {@link BaseCloudEventBuilder}, with the same array layout of {@link CompactExtensionsMap}.
+ * <p>
+ * Integer values set through {@link #putInt(String, int)} are kept unboxed, so they can be copied as they are in the built event.
+ * {@link #clear()} keeps the allocated arrays, in order to reuse them when the builder is reset.
+ */
+public final class ExtensionsBuilderMap extends AbstractMap<String, Object> {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    String[] keys = new String[INITIAL_CAPACITY];
+    Object[] values = new Object[INITIAL_CAPACITY];
+    int[] ints;
+    private int size;
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int i = indexOf(key);
+        return i >= 0 ? valueAt(i) : null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Objects.requireNonNull(key);
+        int i = indexOf(key);
+        Object old = null;
+        if (i >= 0) {
+            old = valueAt(i);
+        } else {
+            i = append(key);
+        }
+        values[i] = value;
+        return old;
+    }
+
+    /**
+     * Put an integer value, without boxing it.
+     *
+     * @param key   the extension name
+     * @param value the extension value
+     */
+    public void putInt(String key, int value) {
+        Objects.requireNonNull(key);
+        int i = indexOf(key);
+        if (i < 0) {
+            i = append(key);
+        }
+        if (ints == null) {
+            ints = new int[keys.length];
+        }
+        values[i] = INT_VALUE;
+        ints[i] = value;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> m) {
+        if (!(m instanceof ExtensionsBuilderMap)) {
+            super.putAll(m);
+            return;
+        }
+        ExtensionsBuilderMap other = (ExtensionsBuilderMap) m;
+        for (int i = 0; i < other.size; i++) {
+            if (other.values[i] == INT_VALUE) {
+                putInt(other.keys[i], other.ints[i]);
+            } else {
+                put(other.keys[i], other.values[i]);
+            }
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        int i = indexOf(key);
+        if (i < 0) {
+            return null;
+        }
+        Object old = valueAt(i);
+        // Shift the following entries to preserve the insertion order
+        int moved = size - i - 1;
+        if (moved > 0) {
+            System.arraycopy(keys, i + 1, keys, i, moved);
+            System.arraycopy(values, i + 1, values, i, moved);
+            if (ints != null) {
+                System.arraycopy(ints, i + 1, ints, i, moved);
+            }
+        }
+        size--;
+        keys[size] = null;
+        values[size] = null;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(keys[i], valueAt(i));
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<Entry<String, Object>>() {
+                    private int next = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < size;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        int i = next++;
+                        return new SimpleImmutableEntry<>(keys[i], valueAt(i));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private Object valueAt(int i) {
+        Object value = values[i];
+        return value == INT_VALUE ? Integer.valueOf(ints[i]) : value;
+    }
+
+    private int indexOf(Object key) {
+        for (int i = 0; i < size; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int append(String key) {
+        if (size == keys.length) {
+            int capacity = keys.length * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+            if (ints != null) {
+                ints = Arrays.copyOf(ints, capacity);
+            }
+        }
+        keys[size] = key;
+        return size++;
+    }
+}
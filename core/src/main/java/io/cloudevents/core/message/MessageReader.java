@@ -123,4 +123,31 @@ public interface MessageReader extends StructuredMessageReader, CloudEventReader
         }
     }
 
+    /**
+     * Like {@link #toLazyEvent(CloudEventDataMapper)}, but with the identity {@link CloudEventDataMapper}.
+     *
+     * @see #toLazyEvent(CloudEventDataMapper)
+     */
+    default CloudEvent toLazyEvent() throws CloudEventRWException, IllegalStateException {
+        return toLazyEvent(CloudEventDataMapper.identity());
+    }
+
+    /**
+     * Like {@link #toEvent(CloudEventDataMapper)}, but the returned {@link CloudEvent} may decode its attributes only when they're accessed.
+     * <p>
+     * Binary messages read through {@link io.cloudevents.core.message.impl.BaseGenericBinaryMessageReaderImpl} return a view
+     * over the protocol headers, so consumers reading only a few attributes (e.g. routers looking at {@code type})
+     * don't pay for parsing {@code time}, {@code source} and every other header.
+     * Because of this, an invalid or missing attribute is reported by the getter accessing it, rather than by this method.
+     * Other messages fall back to {@link #toEvent(CloudEventDataMapper)}.
+     *
+     * @param mapper the mapper to use to map the data, if any.
+     * @return A {@link CloudEvent} with the contents of this message.
+     * @throws CloudEventRWException if something went wrong during the read.
+     * @throws IllegalStateException if the message has an unknown encoding.
+     */
+    default CloudEvent toLazyEvent(CloudEventDataMapper<? extends CloudEventData> mapper) throws CloudEventRWException, IllegalStateException {
+        return toEvent(mapper);
+    }
+
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.message;
+
+import io.cloudevents.rw.CloudEventRWException;
+import io.cloudevents.rw.CloudEventWriter;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Optional capability of the binary mode {@link CloudEventWriter} of a {@link MessageWriter}, accepting attribute values
+ * as the UTF-8 encoded bytes of their {@link String} representation.
+ * <p>
+ * When transcoding a binary message with {@link MessageReader#read(MessageWriter)}, readers whose protocol headers
+ * already store such bytes pass them to writers implementing this interface, so bridges between protocol bindings
+ * copy the header values with just the name remapping, without decoding and re-encoding them.
+ * The bytes still belong to the message they were read from: writers must not modify them, and writers retaining them
+ * in the message they create copy them, so the two messages never share mutable arrays.
+ */
+@ParametersAreNonnullByDefault
+public interface RawAttributeWriter {
+
+    /**
+     * Set an attribute or extension in its raw form.
+     *
+     * @param name  name of the attribute or extension
+     * @param value UTF-8 encoded value of the attribute or extension
+     * @throws CloudEventRWException if anything goes wrong while writing this attribute.
+     */
+    void withRawContextAttribute(String name, byte[] value) throws CloudEventRWException;
+
+}
@@ -17,8 +17,10 @@
 
 package io.cloudevents.core.message.impl;
 
+import io.cloudevents.CloudEvent;
 import io.cloudevents.CloudEventData;
 import io.cloudevents.SpecVersion;
+import io.cloudevents.core.message.RawAttributeWriter;
 import io.cloudevents.core.v1.CloudEventV1;
 import io.cloudevents.rw.CloudEventDataMapper;
 import io.cloudevents.rw.CloudEventRWException;
@@ -51,6 +53,7 @@ public abstract class BaseGenericBinaryMessageReaderImpl<HK, HV> extends BaseBin
     @Override
     public <T extends CloudEventWriter<V>, V> V read(CloudEventWriterFactory<T, V> writerFactory, CloudEventDataMapper<? extends CloudEventData> mapper) throws CloudEventRWException, IllegalStateException {
         CloudEventWriter<V> visitor = writerFactory.create(this.version);
+        RawAttributeWriter rawVisitor = visitor instanceof RawAttributeWriter ? (RawAttributeWriter) visitor : null;
 
         // Grab from headers the attributes and extensions
         // This implementation avoids to use visitAttributes and visitExtensions
@@ -59,14 +62,22 @@ public abstract class BaseGenericBinaryMessageReaderImpl<HK, HV> extends BaseBin
             if (value == null) {
                 return;
             }
+            String name;
             if (isContentTypeHeader(key)) {
-                visitor.withContextAttribute(CloudEventV1.DATACONTENTTYPE, toCloudEventsValue(value));
+                name = CloudEventV1.DATACONTENTTYPE;
             } else if (isCloudEventsHeader(key)) {
-                String name = toCloudEventsKey(key);
+                name = toCloudEventsKey(key);
                 if (name.equals(CloudEventV1.SPECVERSION)) {
                     return;
                 }
-                visitor.withContextAttribute(name, toCloudEventsValue(value));
+            } else {
+                return;
+            }
+            byte[] rawValue = rawVisitor != null ? toCloudEventsRawValue(value) : null;
+            if (rawValue != null) {
+                rawVisitor.withRawContextAttribute(name, rawValue);
+            } else {
+                visitor.withContextAttribute(name, toCloudEventsValue(name, value));
             }
         });
 
@@ -78,6 +89,11 @@ public abstract class BaseGenericBinaryMessageReaderImpl<HK, HV> extends BaseBin
         return visitor.end();
     }
 
+    @Override
+    public CloudEvent toLazyEvent(CloudEventDataMapper<? extends CloudEventData> mapper) throws CloudEventRWException, IllegalStateException {
+        return new LazyBinaryCloudEvent<>(this, this.version, this.body, mapper);
+    }
+
     /**
      * @param key header key
      * @return true if this header is the content type header, false otherwise
@@ -109,4 +125,27 @@ public abstract class BaseGenericBinaryMessageReaderImpl<HK, HV> extends BaseBin
      */
     protected abstract String toCloudEventsValue(HV value);
 
+    /**
+     * Override this method to convert the value depending on the attribute it belongs to,
+     * for example to reuse the decoded values of attributes repeated across messages.
+     *
+     * @param name  the CloudEvents context attribute/extension name
+     * @param value header value
+     * @return the value converted to a valid CloudEvents attribute value as {@link String}.
+     */
+    protected String toCloudEventsValue(String name, HV value) {
+        return toCloudEventsValue(value);
+    }
+
+    /**
+     * Override this method when the header values are stored as UTF-8 encoded bytes,
+     * to pass them as they are to writers implementing {@link RawAttributeWriter}.
+     *
+     * @param value header value
+     * @return the value as UTF-8 encoded bytes, or null if not available without converting the value.
+     */
+    protected byte[] toCloudEventsRawValue(HV value) {
+        return null;
+    }
+
 }
@@ -0,0 +1,343 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.message.impl;
+
+import io.cloudevents.AttributeKey;
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.SpecVersion;
+import io.cloudevents.core.v03.CloudEventV03;
+import io.cloudevents.core.v1.CloudEventV1;
+import io.cloudevents.rw.CloudEventContextReader;
+import io.cloudevents.rw.CloudEventContextWriter;
+import io.cloudevents.rw.CloudEventDataMapper;
+import io.cloudevents.rw.CloudEventRWException;
+import io.cloudevents.rw.CloudEventReader;
+import io.cloudevents.rw.CloudEventWriter;
+import io.cloudevents.rw.CloudEventWriterFactory;
+import io.cloudevents.types.Time;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * {@link CloudEvent} view over the headers of a binary mode message.
+ * <p>
+ * The headers are indexed by attribute name on first access, and each attribute is converted from the protocol header value
+ * only when it's accessed, then cached. Missing mandatory attributes and invalid attribute values are reported by the
+ * getters, rather than when the view is created. For the same reason, {@link #equals(Object)} and {@link #hashCode()},
+ * which compare the converted values, may throw when an attribute value is invalid.
+ * <p>
+ * The view is meant to be read by the thread which created it, and it's not safe for concurrent use.
+ *
+ * @param <HK> Header key type
+ * @param <HV> Header value type
+ */
+final class LazyBinaryCloudEvent<HK, HV> implements CloudEvent, CloudEventReader, CloudEventContextReader {
+
+    private static final Object NOT_DECODED = new Object();
+
+    private final BaseGenericBinaryMessageReaderImpl<HK, HV> reader;
+    private final SpecVersion version;
+    private final String dataSchemaName;
+    private final CloudEventData body;
+    private final CloudEventDataMapper<? extends CloudEventData> mapper;
+
+    // Index of the headers, built on first access
+    private String[] names;
+    private Object[] rawValues;
+    private Object[] decoded;
+    private int size = -1;
+    private CloudEventData data;
+
+    LazyBinaryCloudEvent(BaseGenericBinaryMessageReaderImpl<HK, HV> reader, SpecVersion version, CloudEventData body, CloudEventDataMapper<? extends CloudEventData> mapper) {
+        switch (version) {
+            case V03:
+                this.dataSchemaName = CloudEventV03.SCHEMAURL;
+                break;
+            case V1:
+                this.dataSchemaName = CloudEventV1.DATASCHEMA;
+                break;
+            default:
+                throw CloudEventRWException.newInvalidSpecVersion(version.toString());
+        }
+        this.reader = reader;
+        this.version = version;
+        this.body = body;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public CloudEventData getData() {
+        if (this.body == null) {
+            return null;
+        }
+        if (this.data == null) {
+            this.data = this.mapper.map(this.body);
+        }
+        return this.data;
+    }
+
+    @Override
+    public SpecVersion getSpecVersion() {
+        return this.version;
+    }
+
+    @Override
+    public String getId() {
+        return (String) mandatory(CloudEventV1.ID);
+    }
+
+    @Override
+    public String getType() {
+        return (String) mandatory(CloudEventV1.TYPE);
+    }
+
+    @Override
+    public URI getSource() {
+        return (URI) mandatory(CloudEventV1.SOURCE);
+    }
+
+    @Override
+    public String getDataContentType() {
+        return (String) decode(CloudEventV1.DATACONTENTTYPE);
+    }
+
+    @Override
+    public URI getDataSchema() {
+        return (URI) decode(this.dataSchemaName);
+    }
+
+    @Override
+    public String getSubject() {
+        return (String) decode(CloudEventV1.SUBJECT);
+    }
+
+    @Override
+    public OffsetDateTime getTime() {
+        return (OffsetDateTime) decode(CloudEventV1.TIME);
+    }
+
+    @Override
+    public Object getAttribute(String attributeName) throws IllegalArgumentException {
+        if (CloudEventV1.SPECVERSION.equals(attributeName)) {
+            return this.version;
+        }
+        if (AttributeKey.lookup(this.version, attributeName) == null) {
+            throw new IllegalArgumentException("Spec version " + this.version + " doesn't have attribute named " + attributeName);
+        }
+        return decode(attributeName);
+    }
+
+    @Override
+    public Set<String> getAttributeNames() {
+        index();
+        Set<String> names = new HashSet<>();
+        names.add(CloudEventV1.SPECVERSION);
+        for (int i = 0; i < this.size; i++) {
+            if (AttributeKey.lookup(this.version, this.names[i]) != null) {
+                names.add(this.names[i]);
+            }
+        }
+        return names;
+    }
+
+    @Override
+    public Object getExtension(String extensionName) {
+        if (AttributeKey.lookup(this.version, extensionName) != null) {
+            return null;
+        }
+        return decode(extensionName);
+    }
+
+    @Override
+    public Set<String> getExtensionNames() {
+        index();
+        Set<String> names = new HashSet<>();
+        for (int i = 0; i < this.size; i++) {
+            if (AttributeKey.lookup(this.version, this.names[i]) == null) {
+                names.add(this.names[i]);
+            }
+        }
+        return names;
+    }
+
+    @Override
+    public <T extends CloudEventWriter<V>, V> V read(CloudEventWriterFactory<T, V> writerFactory, CloudEventDataMapper<? extends CloudEventData> mapper) throws CloudEventRWException, IllegalStateException {
+        CloudEventWriter<V> writer = writerFactory.create(this.version);
+        this.readContext(writer);
+
+        CloudEventData data = this.getData();
+        if (data != null) {
+            return writer.end(mapper.map(data));
+        }
+
+        return writer.end();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void readContext(CloudEventContextWriter writer) throws CloudEventRWException {
+        index();
+        // Forward the header values in their string form, leaving the parsing to the writer
+        for (int i = 0; i < this.size; i++) {
+            writer.withContextAttribute(this.names[i], this.reader.toCloudEventsValue(this.names[i], (HV) this.rawValues[i]));
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LazyBinaryCloudEvent<?, ?> that = (LazyBinaryCloudEvent<?, ?>) o;
+        if (this.version != that.version) return false;
+        this.index();
+        that.index();
+        if (this.size != that.size) return false;
+        for (int i = 0; i < this.size; i++) {
+            int j = that.indexOf(this.names[i]);
+            if (j == -1 || !Objects.equals(this.decodeAt(i), that.decodeAt(j))) {
+                return false;
+            }
+        }
+        return Objects.equals(getData(), that.getData());
+    }
+
+    @Override
+    public int hashCode() {
+        index();
+        // Order independent, like the hash code of a Map
+        int h = 0;
+        for (int i = 0; i < this.size; i++) {
+            h += this.names[i].hashCode() ^ Objects.hashCode(decodeAt(i));
+        }
+        return Objects.hash(this.version, h, getData());
+    }
+
+    @Override
+    public String toString() {
+        index();
+        StringBuilder builder = new StringBuilder("LazyBinaryCloudEvent{version=").append(this.version).append(", headers={");
+        for (int i = 0; i < this.size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(this.names[i]).append('=').append(this.rawValues[i]);
+        }
+        return builder.append("}, data=").append(this.body).append('}').toString();
+    }
+
+    private Object mandatory(String name) {
+        Object value = decode(name);
+        if (value == null) {
+            // Same failure of toEvent(), where the builder rejects the missing attribute
+            throw CloudEventRWException.newOther(
+                new IllegalStateException("Attribute '" + name + "' cannot be null")
+            );
+        }
+        return value;
+    }
+
+    private Object decode(String name) {
+        index();
+        int i = indexOf(name);
+        return i == -1 ? null : decodeAt(i);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object decodeAt(int i) {
+        Object value = this.decoded[i];
+        if (value == NOT_DECODED) {
+            value = convert(this.names[i], this.reader.toCloudEventsValue(this.names[i], (HV) this.rawValues[i]));
+            this.decoded[i] = value;
+        }
+        return value;
+    }
+
+    private Object convert(String name, String value) {
+        switch (name) {
+            case CloudEventV1.SOURCE:
+            case CloudEventV1.DATASCHEMA:
+            case CloudEventV03.SCHEMAURL:
+                if (AttributeKey.lookup(this.version, name) != null) {
+                    try {
+                        return new URI(value);
+                    } catch (URISyntaxException e) {
+                        throw CloudEventRWException.newInvalidAttributeValue(name, value, e);
+                    }
+                }
+                return value;
+            case CloudEventV1.TIME:
+                return Time.parseTime(name, value);
+            default:
+                return value;
+        }
+    }
+
+    private int indexOf(String name) {
+        // Messages carry a handful of headers, so a linear scan is as fast as hashing the name
+        for (int i = 0; i < this.size; i++) {
+            if (this.names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void index() {
+        if (this.size != -1) {
+            return;
+        }
+        this.names = new String[8];
+        this.rawValues = new Object[8];
+        this.size = 0;
+        this.reader.forEachHeader((key, value) -> {
+            if (value == null) {
+                return;
+            }
+            String name;
+            if (this.reader.isContentTypeHeader(key)) {
+                name = CloudEventV1.DATACONTENTTYPE;
+            } else if (this.reader.isCloudEventsHeader(key)) {
+                name = this.reader.toCloudEventsKey(key);
+                if (name.equals(CloudEventV1.SPECVERSION)) {
+                    return;
+                }
+            } else {
+                return;
+            }
+            int i = indexOf(name);
+            if (i == -1) {
+                if (this.size == this.names.length) {
+                    this.names = Arrays.copyOf(this.names, this.size * 2);
+                    this.rawValues = Arrays.copyOf(this.rawValues, this.size * 2);
+                }
+                i = this.size++;
+                this.names[i] = name;
+            }
+            this.rawValues[i] = value;
+        });
+        this.decoded = new Object[this.size];
+        Arrays.fill(this.decoded, NOT_DECODED);
+    }
+}
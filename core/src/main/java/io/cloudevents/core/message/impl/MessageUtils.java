@@ -17,13 +17,18 @@
 
 package io.cloudevents.core.message.impl;
 
+import io.cloudevents.CloudEventData;
 import io.cloudevents.SpecVersion;
+import io.cloudevents.core.data.BinaryCloudEventData;
+import io.cloudevents.core.data.StreamCloudEventData;
 import io.cloudevents.core.format.EventFormat;
 import io.cloudevents.core.message.Encoding;
 import io.cloudevents.core.message.MessageReader;
 import io.cloudevents.core.provider.EventFormatProvider;
 import io.cloudevents.rw.CloudEventRWException;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -96,6 +101,25 @@ public class MessageUtils {
             .collect(Collectors.toMap(Function.identity(), headerNameMapping));
     }
 
+    /**
+     * Write the provided data to the {@link OutputStream}, streaming it when it's a {@link StreamCloudEventData}
+     * and avoiding intermediate copies when it's a {@link BinaryCloudEventData}.
+     * A {@link StreamCloudEventData} is closed once transferred, releasing its underlying resources.
+     *
+     * @param data         the data to write
+     * @param outputStream the stream to write to
+     * @throws IOException if something goes wrong while writing the data
+     */
+    public static void writeData(CloudEventData data, OutputStream outputStream) throws IOException {
+        if (data instanceof StreamCloudEventData) {
+            try (StreamCloudEventData streamData = (StreamCloudEventData) data) {
+                streamData.writeTo(outputStream);
+            }
+        } else {
+            BinaryCloudEventData.from(data).writeTo(outputStream);
+        }
+    }
+
     /**
      * @param expected the expected encoding
      * @param actual   the actual encoding
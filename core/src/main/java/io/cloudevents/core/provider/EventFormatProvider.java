@@ -21,10 +21,13 @@ import java.util.HashMap;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.StreamSupport;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 
+import io.cloudevents.core.format.BatchEventFormat;
 import io.cloudevents.core.format.ContentType;
 import io.cloudevents.core.format.EventFormat;
 import io.cloudevents.lang.Nullable;
@@ -38,6 +41,12 @@ import io.cloudevents.lang.Nullable;
  * <p>
  * You can programmatically add a new {@link EventFormat} implementation using
  * {@link #registerFormat(EventFormat)}.
+ * <p>
+ * Event formats implementing {@link BatchEventFormat} are registered also as batch formats,
+ * which you can resolve using {@code EventFormatProvider.getInstance().resolveBatchFormat(contentType)}.
+ * <p>
+ * Event formats supporting several configurations can share an instance per configuration through
+ * {@link #getOrCreateFormat(Object, Function)}.
  */
 @ParametersAreNonnullByDefault
 public final class EventFormatProvider {
@@ -53,10 +62,19 @@ public final class EventFormatProvider {
 		return EventFormatProvider.SingletonContainer.INSTANCE;
 	}
 
+	/**
+	 * Maximum number of formats cached by {@link #getOrCreateFormat(Object, Function)}.
+	 */
+	public static final int MAX_CONFIGURED_FORMATS = 64;
+
 	private final HashMap<String, EventFormat> formats;
+	private final HashMap<String, BatchEventFormat> batchFormats;
+	private final ConcurrentHashMap<Object, EventFormat> configuredFormats;
 
 	private EventFormatProvider() {
 		this.formats = new HashMap<>();
+		this.batchFormats = new HashMap<>();
+		this.configuredFormats = new ConcurrentHashMap<>();
 
 		StreamSupport.stream(ServiceLoader.load(EventFormat.class).spliterator(), false)
 				.forEach(this::registerFormat);
@@ -71,6 +89,47 @@ public final class EventFormatProvider {
 		for (String k : format.deserializableContentTypes()) {
 			this.formats.put(k, format);
 		}
+		if (format instanceof BatchEventFormat) {
+			registerBatchFormat((BatchEventFormat) format);
+		}
+	}
+
+	/**
+	 * Register a new {@link BatchEventFormat} programmatically.
+	 *
+	 * @param format the new batch format to register
+	 */
+	public void registerBatchFormat(BatchEventFormat format) {
+		this.batchFormats.put(format.serializedBatchContentType(), format);
+	}
+
+	/**
+	 * Get the format instance configured with the provided options, creating it the first time these options are requested.
+	 * <p>
+	 * This allows to share a format instance, together with the resources it holds, among all the users of the same configuration.
+	 * The options are used as cache keys, so they must implement {@link Object#equals(Object)} and {@link Object#hashCode()}
+	 * and their class must be specific to the format. The cached formats are not registered for content type resolution.
+	 * <p>
+	 * At most {@link #MAX_CONFIGURED_FORMATS} configurations are cached: once the limit is reached, the formats for new
+	 * configurations are created on every invocation. Options holding per-caller resources, like a custom mapper,
+	 * shouldn't go through this method.
+	 *
+	 * @param options the options of the format
+	 * @param factory the factory creating the format from the options
+	 * @param <O>     the type of the options
+	 * @param <F>     the type of the format
+	 * @return the format configured with the provided options
+	 */
+	@SuppressWarnings("unchecked")
+	public <O, F extends EventFormat> F getOrCreateFormat(O options, Function<? super O, F> factory) {
+		EventFormat format = this.configuredFormats.get(options);
+		if (format != null) {
+			return (F) format;
+		}
+		if (this.configuredFormats.size() >= MAX_CONFIGURED_FORMATS) {
+			return factory.apply(options);
+		}
+		return (F) this.configuredFormats.computeIfAbsent(options, o -> factory.apply((O) o));
 	}
 
 	/**
@@ -109,4 +168,30 @@ public final class EventFormatProvider {
 	public EventFormat resolveFormat(ContentType contentType) {
 		return this.formats.get(contentType.value());
 	}
+
+	/**
+	 * Resolve a batch format starting from the content type.
+	 *
+	 * @param contentType the content type to resolve the batch format
+	 * @return null if no batch format was found for the provided content type
+	 */
+	@Nullable
+	public BatchEventFormat resolveBatchFormat(String contentType) {
+		int i = contentType.indexOf(';');
+		if (i != -1) {
+			contentType = contentType.substring(0, i);
+		}
+		return this.batchFormats.get(contentType);
+	}
+
+	/**
+	 * Resolve a batch format starting from the content type.
+	 *
+	 * @param contentType the content type to resolve the batch format
+	 * @return null if no batch format was found for the provided content type
+	 */
+	@Nullable
+	public BatchEventFormat resolveBatchFormat(ContentType contentType) {
+		return this.batchFormats.get(contentType.value());
+	}
 }
@@ -16,6 +16,7 @@
  */
 package io.cloudevents.core.v03;
 
+import io.cloudevents.CloudEvent;
 import io.cloudevents.SpecVersion;
 import io.cloudevents.core.CloudEventUtils;
 import io.cloudevents.core.impl.BaseCloudEventBuilder;
@@ -106,8 +107,7 @@ public final class CloudEventBuilder extends BaseCloudEventBuilder<CloudEventBui
 
     @Override
     public CloudEventBuilder withDataSchema(URI dataSchema) {
-        this.schemaurl = dataSchema;
-        return this;
+        return withSchemaUrl(dataSchema);
     }
 
     @Override
@@ -125,6 +125,38 @@ public final class CloudEventBuilder extends BaseCloudEventBuilder<CloudEventBui
         return new CloudEventV03(id, source, type, time, schemaurl, datacontenttype, subject, this.data, this.extensions);
     }
 
+    /**
+     * Clear all the attributes, extensions and data of this builder, so the same instance can be reused to build another event.
+     * <p>
+     * The built events don't share any state with the builder, hence resetting it doesn't affect the events built before.
+     *
+     * @return self
+     */
+    public CloudEventBuilder reset() {
+        this.id = null;
+        this.source = null;
+        this.type = null;
+        this.time = null;
+        this.schemaurl = null;
+        this.datacontenttype = null;
+        this.subject = null;
+        clearDataAndExtensions();
+        return this;
+    }
+
+    /**
+     * Reset this builder and fill it with the content of the provided event.
+     *
+     * @param event event to copy values from
+     * @return self
+     */
+    public CloudEventBuilder reset(CloudEvent event) {
+        reset();
+        setAttributes(event);
+        this.data = event.getData();
+        return this;
+    }
+
     @Override
     public CloudEventBuilder newBuilder() {
         CloudEventBuilder newBuilder = new CloudEventBuilder();
@@ -266,6 +298,25 @@ public final class CloudEventBuilder extends BaseCloudEventBuilder<CloudEventBui
         }
     }
 
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, int value) throws CloudEventRWException {
+        requireValidAttributeWrite(name);
+        switch (name) {
+            case TIME:
+            case SCHEMAURL:
+            case ID:
+            case TYPE:
+            case DATACONTENTTYPE:
+            case DATACONTENTENCODING:
+            case SUBJECT:
+            case SOURCE:
+                throw CloudEventRWException.newInvalidAttributeType(name, Integer.class);
+            default:
+                withExtension(name, value);
+                return this;
+        }
+    }
+
     @Override
     public CloudEventContextWriter withContextAttribute(String name, Boolean value) throws CloudEventRWException {
         requireValidAttributeWrite(name);
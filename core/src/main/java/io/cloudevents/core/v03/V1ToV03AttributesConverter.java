@@ -130,6 +130,23 @@ class V1ToV03AttributesConverter implements CloudEventContextWriter {
         }
     }
 
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, int value) throws CloudEventRWException {
+        switch (name) {
+            case TIME:
+            case SOURCE:
+            case DATASCHEMA:
+            case ID:
+            case TYPE:
+            case DATACONTENTTYPE:
+            case SUBJECT:
+                throw CloudEventRWException.newInvalidAttributeType(name, Integer.class);
+            default:
+                builder.withExtension(name, value);
+                return this;
+        }
+    }
+
     @Override
     public CloudEventContextWriter withContextAttribute(String name, Boolean value) throws CloudEventRWException {
         switch (name) {
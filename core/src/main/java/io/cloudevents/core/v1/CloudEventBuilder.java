@@ -122,6 +122,38 @@ public final class CloudEventBuilder extends BaseCloudEventBuilder<CloudEventBui
         return new CloudEventV1(id, source, type, datacontenttype, dataschema, subject, time, this.data, this.extensions);
     }
 
+    /**
+     * Clear all the attributes, extensions and data of this builder, so the same instance can be reused to build another event.
+     * <p>
+     * The built events don't share any state with the builder, hence resetting it doesn't affect the events built before.
+     *
+     * @return self
+     */
+    public CloudEventBuilder reset() {
+        this.id = null;
+        this.source = null;
+        this.type = null;
+        this.datacontenttype = null;
+        this.dataschema = null;
+        this.subject = null;
+        this.time = null;
+        clearDataAndExtensions();
+        return this;
+    }
+
+    /**
+     * Reset this builder and fill it with the content of the provided event.
+     *
+     * @param event event to copy values from
+     * @return self
+     */
+    public CloudEventBuilder reset(CloudEvent event) {
+        reset();
+        setAttributes(event);
+        this.data = event.getData();
+        return this;
+    }
+
     @Override
     public CloudEventBuilder newBuilder() {
         CloudEventBuilder newBuilder = new CloudEventBuilder();
@@ -257,6 +289,24 @@ public final class CloudEventBuilder extends BaseCloudEventBuilder<CloudEventBui
         }
     }
 
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, int value) throws CloudEventRWException {
+        requireValidAttributeWrite(name);
+        switch (name) {
+            case TIME:
+            case DATASCHEMA:
+            case ID:
+            case TYPE:
+            case DATACONTENTTYPE:
+            case SUBJECT:
+            case SOURCE:
+                throw CloudEventRWException.newInvalidAttributeType(name, Integer.class);
+            default:
+                withExtension(name, value);
+                return this;
+        }
+    }
+
     @Override
     public CloudEventContextWriter withContextAttribute(String name, Boolean value) throws CloudEventRWException {
         requireValidAttributeWrite(name);
@@ -0,0 +1,83 @@
+package io.cloudevents.core.data;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ByteBufferCloudEventDataTest {
+
+    private static final byte[] BYTES = "Hello CloudEvents!".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void testWrapWholeArrayDoesNotCopy() {
+        ByteBufferCloudEventData data = ByteBufferCloudEventData.wrap(BYTES, 0, BYTES.length);
+
+        assertThat(data.length())
+            .isEqualTo(BYTES.length);
+        assertThat(data.toBytes())
+            .isSameAs(BYTES);
+    }
+
+    @Test
+    void testSlice() throws Exception {
+        BinaryCloudEventData data = BytesCloudEventData.wrap(BYTES).slice(6, 11);
+
+        assertThat(data.toBytes())
+            .isEqualTo("CloudEvents".getBytes(StandardCharsets.UTF_8));
+        assertThat(data.slice(5, 6).toBytes())
+            .isEqualTo("Events".getBytes(StandardCharsets.UTF_8));
+        assertThat(data.asReadOnlyByteBuffer().isReadOnly())
+            .isTrue();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        data.writeTo(outputStream);
+        assertThat(outputStream.toByteArray())
+            .isEqualTo("CloudEvents".getBytes(StandardCharsets.UTF_8));
+
+        outputStream.reset();
+        data.writeTo(Channels.newChannel(outputStream));
+        assertThat(outputStream.toByteArray())
+            .isEqualTo("CloudEvents".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testSliceOutOfBounds() {
+        assertThatThrownBy(() -> BytesCloudEventData.wrap(BYTES).slice(10, BYTES.length))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> ByteBufferCloudEventData.wrap(BYTES, -1, 2))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void testReadOnlyBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap(BYTES).asReadOnlyBuffer();
+        buffer.position(6);
+        ByteBufferCloudEventData data = ByteBufferCloudEventData.wrap(buffer);
+
+        byte[] firstConversion = data.toBytes();
+        assertThat(firstConversion)
+            .isEqualTo("CloudEvents!".getBytes(StandardCharsets.UTF_8));
+        assertThat(data.toBytes())
+            .isSameAs(firstConversion);
+        assertThat(buffer.position())
+            .isEqualTo(6);
+    }
+
+    @Test
+    void testEqualsToBytesCloudEventData() {
+        BytesCloudEventData bytes = BytesCloudEventData.wrap("CloudEvents".getBytes(StandardCharsets.UTF_8));
+        BinaryCloudEventData slice = ByteBufferCloudEventData.wrap(BYTES, 6, 11);
+
+        assertThat(slice)
+            .isEqualTo(bytes)
+            .hasSameHashCodeAs(bytes);
+        assertThat(bytes)
+            .isEqualTo(slice);
+    }
+}
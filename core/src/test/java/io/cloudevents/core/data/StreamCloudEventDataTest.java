@@ -0,0 +1,87 @@
+package io.cloudevents.core.data;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.Random;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamCloudEventDataTest {
+
+    private static final byte[] BYTES = "Hello CloudEvents!".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void testWriteToConsumesTheStream() throws Exception {
+        StreamCloudEventData data = StreamCloudEventData.wrap(new ByteArrayInputStream(BYTES), BYTES.length);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        assertThat(data.writeTo(outputStream))
+            .isEqualTo(BYTES.length);
+        assertThat(outputStream.toByteArray())
+            .isEqualTo(BYTES);
+
+        assertThat(data.isConsumed())
+            .isTrue();
+        assertThatThrownBy(data::getInputStream)
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(data::toBytes)
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testToBytesMemoization() throws Exception {
+        StreamCloudEventData data = StreamCloudEventData.wrap(new ByteArrayInputStream(BYTES));
+
+        byte[] firstConversion = data.toBytes();
+        assertThat(firstConversion)
+            .isEqualTo(BYTES);
+        assertThat(data.toBytes())
+            .isSameAs(firstConversion);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        data.writeTo(outputStream);
+        assertThat(outputStream.toByteArray())
+            .isEqualTo(BYTES);
+    }
+
+    @Test
+    void testSpillInMemory() throws Exception {
+        StreamCloudEventData data = StreamCloudEventData.spill(new ByteArrayInputStream(BYTES), BYTES.length);
+
+        assertThat(data.getLength())
+            .isEqualTo(BYTES.length);
+        assertThat(data.toBytes())
+            .isEqualTo(BYTES);
+    }
+
+    @Test
+    void testSpillGrowsTheBuffer() throws Exception {
+        byte[] bytes = new byte[20000];
+        new Random(0).nextBytes(bytes);
+
+        assertThat(StreamCloudEventData.spill(new ByteArrayInputStream(bytes), Integer.MAX_VALUE - 1).toBytes())
+            .isEqualTo(bytes);
+    }
+
+    @Test
+    void testSpillToDisk() throws Exception {
+        StreamCloudEventData data = StreamCloudEventData.spill(new ByteArrayInputStream(BYTES), 4);
+
+        assertThat(data.getLength())
+            .isEqualTo(BYTES.length);
+        try (InputStream inputStream = data.getInputStream()) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            int b;
+            while ((b = inputStream.read()) != -1) {
+                outputStream.write(b);
+            }
+            assertThat(outputStream.toByteArray())
+                .isEqualTo(BYTES);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.format;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.message.impl.GenericStructuredMessageReader;
+import io.cloudevents.core.mock.CSVFormat;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.cloudevents.core.test.Data.V1_WITH_JSON_DATA;
+import static io.cloudevents.core.test.Data.V1_WITH_XML_DATA;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingEventFormatTest {
+
+    @Test
+    void serializeOnce() {
+        CountingFormat counting = new CountingFormat();
+        CachingEventFormat format = new CachingEventFormat(counting);
+
+        byte[] first = format.serialize(V1_WITH_JSON_DATA);
+        byte[] second = GenericStructuredMessageReader.from(V1_WITH_JSON_DATA, format)
+            .read((eventFormat, value) -> value);
+
+        assertThat(second).isSameAs(first);
+        assertThat(counting.serializations.get()).isEqualTo(1);
+        assertThat(format.deserialize(first)).isEqualTo(V1_WITH_JSON_DATA);
+    }
+
+    @Test
+    void serializeToStreamOnce() {
+        CountingFormat counting = new CountingFormat();
+        CachingEventFormat format = new CachingEventFormat(counting);
+
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        format.serialize(V1_WITH_JSON_DATA, first);
+        format.serialize(V1_WITH_JSON_DATA, second);
+
+        assertThat(second.toByteArray()).isEqualTo(first.toByteArray());
+        assertThat(format.serialize(V1_WITH_JSON_DATA)).isEqualTo(first.toByteArray());
+        assertThat(counting.serializations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void cacheByIdentity() {
+        CountingFormat counting = new CountingFormat();
+        CachingEventFormat format = new CachingEventFormat(counting);
+        CloudEvent copy = CloudEventBuilder.v1(V1_WITH_JSON_DATA).build();
+
+        assertThat(format.serialize(copy)).isEqualTo(format.serialize(V1_WITH_JSON_DATA));
+        assertThat(counting.serializations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void evictOldest() {
+        CountingFormat counting = new CountingFormat();
+        CachingEventFormat format = new CachingEventFormat(counting, 1);
+
+        format.serialize(V1_WITH_JSON_DATA);
+        format.serialize(V1_WITH_XML_DATA);
+        format.serialize(V1_WITH_JSON_DATA);
+
+        assertThat(counting.serializations.get()).isEqualTo(3);
+    }
+
+    @Test
+    void invalidate() {
+        CountingFormat counting = new CountingFormat();
+        CachingEventFormat format = new CachingEventFormat(counting);
+
+        format.serialize(V1_WITH_JSON_DATA);
+        format.invalidate(V1_WITH_JSON_DATA);
+        format.serialize(V1_WITH_JSON_DATA);
+        format.clear();
+        format.serialize(V1_WITH_JSON_DATA);
+
+        assertThat(counting.serializations.get()).isEqualTo(3);
+    }
+
+    @Test
+    void concurrentSerialization() throws Exception {
+        CachingEventFormat format = new CachingEventFormat(new CountingFormat(), 2);
+        byte[] expected = CSVFormat.INSTANCE.serialize(V1_WITH_JSON_DATA);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<byte[]>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                CloudEvent event = i % 2 == 0 ? V1_WITH_JSON_DATA : CloudEventBuilder.v1(V1_WITH_JSON_DATA).build();
+                results.add(executor.submit(() -> format.serialize(event)));
+            }
+            for (Future<byte[]> result : results) {
+                assertThat(result.get()).isEqualTo(expected);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static class CountingFormat extends CSVFormat {
+        private final AtomicInteger serializations = new AtomicInteger();
+
+        @Override
+        public byte[] serialize(CloudEvent event) {
+            serializations.incrementAndGet();
+            return super.serialize(event);
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package io.cloudevents.core.format;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataContentTypeTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "application/json, true, false, true",
+        "application/json;charset=utf-8, true, false, true",
+        "text/json, true, false, true",
+        "application/ld+json, true, false, true",
+        "application/cloudevents-batch+json, false, false, false",
+        "application/xml, false, true, true",
+        "text/atom+xml, false, true, true",
+        "text/plain, false, false, true",
+        "application/octet-stream, false, false, false",
+        "image/png, false, false, false"
+    })
+    void classify(String contentType, boolean json, boolean xml, boolean text) {
+        DataContentType dataContentType = DataContentType.of(contentType);
+
+        assertThat(dataContentType.isJson()).isEqualTo(json);
+        assertThat(dataContentType.isXml()).isEqualTo(xml);
+        assertThat(dataContentType.isText()).isEqualTo(text);
+        assertThat(dataContentType.getValue()).isEqualTo(contentType);
+    }
+
+    @Test
+    void parseTypeAndSubtype() {
+        DataContentType dataContentType = DataContentType.of("application/vnd.foo+json; charset=utf-8");
+
+        assertThat(dataContentType.getType()).isEqualTo("application");
+        assertThat(dataContentType.getSubtype()).isEqualTo("vnd.foo+json");
+        assertThat(DataContentType.of("garbage").getSubtype()).isEmpty();
+    }
+
+    @Test
+    void cacheReturnsSameInstance() {
+        assertThat(DataContentType.of("application/json"))
+            .isSameAs(DataContentType.of(new String("application/json")));
+    }
+
+    @Test
+    void cacheIsBounded() {
+        DataContentType first = DataContentType.of("application/first+json");
+        for (int i = 0; i < DataContentType.MAX_CACHED_ENTRIES; i++) {
+            DataContentType.of("application/filler" + i);
+        }
+
+        assertThat(DataContentType.of("application/first+json"))
+            .isNotSameAs(first)
+            .satisfies(c -> assertThat(c.isJson()).isTrue());
+    }
+}
@@ -17,12 +17,21 @@
 
 package io.cloudevents.core.impl;
 
+import io.cloudevents.AttributeKey;
 import io.cloudevents.CloudEvent;
 import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.rw.CloudEventContextWriter;
+import io.cloudevents.rw.CloudEventRWException;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.HashMap;
+import java.util.Map;
 
 import static io.cloudevents.core.test.Data.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class CloudEventImplTest {
 
@@ -115,4 +124,174 @@ public class CloudEventImplTest {
             .doesNotContain("time");
     }
 
+    @Test
+    public void testStringSourceEqualityV1() {
+        CloudEvent event1 = CloudEventBuilder.v1()
+            .withId(ID)
+            .withType(TYPE)
+            .withSource(SOURCE)
+            .withDataSchema(DATASCHEMA)
+            .build();
+
+        io.cloudevents.core.v1.CloudEventBuilder builder = CloudEventBuilder.v1()
+            .withId(ID)
+            .withType(TYPE);
+        builder.withContextAttribute("source", SOURCE.toString());
+        builder.withContextAttribute("dataschema", DATASCHEMA.toString());
+        CloudEvent event2 = builder.build();
+
+        assertThat(event2.getSource()).isEqualTo(SOURCE);
+        assertThat(event2.getDataSchema()).isEqualTo(DATASCHEMA);
+        assertThat(event1).isEqualTo(event2);
+        assertThat(event1.hashCode()).isEqualTo(event2.hashCode());
+    }
+
+    @Test
+    public void testStringSourceEqualityV03() {
+        CloudEvent event1 = CloudEventBuilder.v03()
+            .withId(ID)
+            .withType(TYPE)
+            .withSource(SOURCE)
+            .withDataSchema(DATASCHEMA)
+            .build();
+
+        io.cloudevents.core.v03.CloudEventBuilder builder = CloudEventBuilder.v03()
+            .withId(ID)
+            .withType(TYPE);
+        builder.withContextAttribute("source", SOURCE.toString());
+        builder.withContextAttribute("schemaurl", DATASCHEMA.toString());
+        CloudEvent event2 = builder.build();
+
+        assertThat(event1).isEqualTo(event2);
+        assertThat(event1.hashCode()).isEqualTo(event2.hashCode());
+    }
+
+    @Test
+    public void testInvalidStringSourceFailsOnWrite() {
+        io.cloudevents.core.v1.CloudEventBuilder builder = CloudEventBuilder.v1()
+            .withId(ID)
+            .withType(TYPE);
+
+        assertThatThrownBy(() -> builder.withContextAttribute("source", "%%%"))
+            .isInstanceOf(CloudEventRWException.class)
+            .extracting(t -> ((CloudEventRWException) t).getKind())
+            .isEqualTo(CloudEventRWException.CloudEventRWExceptionKind.INVALID_ATTRIBUTE_VALUE);
+    }
+
+    @Test
+    public void testExtensionsAreNotSharedWithBuilder() {
+        io.cloudevents.core.v1.CloudEventBuilder builder = CloudEventBuilder.v1()
+            .withId(ID)
+            .withType(TYPE)
+            .withSource(SOURCE)
+            .withExtension("astring", "aaa");
+
+        CloudEvent event = builder.build();
+        builder.withExtension("anint", 10);
+
+        assertThat(event.getExtensionNames())
+            .containsExactly("astring");
+        assertThat(event.getExtension("anint"))
+            .isNull();
+    }
+
+    @Test
+    public void testCompactExtensionsMap() {
+        Map<String, Object> source = new HashMap<>();
+        source.put("astring", "aaa");
+        source.put("anint", 10);
+
+        Map<String, Object> compact = CompactExtensionsMap.copyOf(source);
+
+        assertThat(compact)
+            .isEqualTo(source)
+            .containsEntry("anint", 10);
+        assertThat(compact.hashCode())
+            .isEqualTo(source.hashCode());
+        assertThat(compact.get("notfound"))
+            .isNull();
+        assertThat(CompactExtensionsMap.copyOf(new HashMap<>()))
+            .isEmpty();
+    }
+
+    @Test
+    public void testPrimitiveExtensions() {
+        CloudEventBuilder builder = CloudEventBuilder.v1()
+            .withId(ID)
+            .withType(TYPE)
+            .withSource(SOURCE)
+            .withExtension("anint", 10)
+            .withExtension("aboolean", true)
+            .withExtension("astring", "aaa");
+        CloudEvent event = builder.build();
+
+        assertThat(event.getExtension("anint"))
+            .isEqualTo(10);
+        assertThat(event.getExtension("aboolean"))
+            .isEqualTo(true);
+        assertThat(event.getExtensionNames())
+            .containsExactly("anint", "aboolean", "astring");
+        assertThat(event)
+            .isEqualTo(CloudEventBuilder.v1()
+                .withId(ID)
+                .withType(TYPE)
+                .withSource(SOURCE)
+                .withExtension("anint", Integer.valueOf(10))
+                .withExtension("aboolean", Boolean.TRUE)
+                .withExtension("astring", "aaa")
+                .build());
+        assertThat(event.hashCode())
+            .isEqualTo(CloudEventBuilder.v1(event).build().hashCode());
+
+        // Removing an extension keeps the order of the others
+        builder.withoutExtension("anint");
+        assertThat(builder.build().getExtensionNames())
+            .containsExactly("aboolean", "astring");
+    }
+
+    @Test
+    public void testPrimitiveExtensionsAreWrittenUnboxed() {
+        CloudEvent event = CloudEventBuilder.v1(V1_MIN)
+            .withExtension("anint", 10)
+            .withExtension("aboolean", true)
+            .build();
+        Map<String, Object> written = new HashMap<>();
+
+        ((BaseCloudEvent) event).readContext(new CloudEventContextWriter() {
+            @Override
+            public CloudEventContextWriter withContextAttribute(String name, String value) {
+                return this;
+            }
+
+            @Override
+            public CloudEventContextWriter withContextAttribute(String name, int value) {
+                written.put(name, value);
+                return this;
+            }
+
+            @Override
+            public CloudEventContextWriter withContextAttribute(String name, boolean value) {
+                written.put(name, value);
+                return this;
+            }
+        });
+
+        assertThat(written)
+            .containsEntry("anint", 10)
+            .containsEntry("aboolean", true);
+    }
+
+    @ParameterizedTest
+    @MethodSource("io.cloudevents.core.test.Data#allEvents")
+    public void testAttributeKeyGet(CloudEvent event) {
+        for (String name : event.getSpecVersion().getAllAttributes()) {
+            assertThat(AttributeKey.lookup(name).get(event))
+                .isEqualTo(event.getAttribute(name));
+        }
+        assertThatThrownBy(() -> AttributeKey.DATASCHEMA.get(V03_WITH_JSON_DATA))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AttributeKey.SCHEMAURL.get(V1_WITH_JSON_DATA))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
 }
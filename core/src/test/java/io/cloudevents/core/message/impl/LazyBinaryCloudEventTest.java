@@ -0,0 +1,198 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.message.impl;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.SpecVersion;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.data.BytesCloudEventData;
+import io.cloudevents.core.test.Data;
+import io.cloudevents.rw.CloudEventRWException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import static io.cloudevents.core.test.Data.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LazyBinaryCloudEventTest {
+
+    @ParameterizedTest
+    @MethodSource("events")
+    public void readsTheSameEventOfToEvent(CloudEvent event) {
+        MapMessageReader reader = MapMessageReader.from(event);
+        CloudEvent lazyEvent = reader.toLazyEvent();
+
+        assertThat(lazyEvent.getSpecVersion()).isEqualTo(event.getSpecVersion());
+        assertThat(lazyEvent.getId()).isEqualTo(event.getId());
+        assertThat(lazyEvent.getSource()).isEqualTo(event.getSource());
+        assertThat(lazyEvent.getType()).isEqualTo(event.getType());
+        assertThat(lazyEvent.getDataContentType()).isEqualTo(event.getDataContentType());
+        assertThat(lazyEvent.getDataSchema()).isEqualTo(event.getDataSchema());
+        assertThat(lazyEvent.getSubject()).isEqualTo(event.getSubject());
+        assertThat(lazyEvent.getTime()).isEqualTo(event.getTime());
+        assertThat(lazyEvent.getAttributeNames()).containsExactlyInAnyOrderElementsOf(event.getAttributeNames());
+        assertThat(lazyEvent.getExtensionNames()).containsExactlyInAnyOrderElementsOf(event.getExtensionNames());
+        assertThat(CloudEventBuilder.from(lazyEvent).build()).isEqualTo(reader.toEvent());
+    }
+
+    @ParameterizedTest
+    @MethodSource("events")
+    public void equalsAndHashCodeCompareTheAttributeValues(CloudEvent event) {
+        CloudEvent lazyEvent = MapMessageReader.from(event).toLazyEvent();
+        CloudEvent other = MapMessageReader.from(event).toLazyEvent();
+
+        assertThat(lazyEvent)
+            .isEqualTo(other)
+            .hasSameHashCodeAs(other)
+            .isNotEqualTo(MapMessageReader.from(CloudEventBuilder.from(event).withId("other").build()).toLazyEvent())
+            .isNotEqualTo(event);
+    }
+
+    @Test
+    public void equalsComparesTheParsedValues() {
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("ce_id", ID);
+        headers.put("ce_type", TYPE);
+        headers.put("ce_source", SOURCE.toString());
+        headers.put("ce_time", "2018-04-26T14:48:09+02:00");
+        CloudEvent lazyEvent = new MapMessageReader(SpecVersion.V1, headers, null).toLazyEvent();
+
+        headers = new LinkedHashMap<>(headers);
+        headers.put("ce_time", "2018-04-26T14:48:09.000+02:00");
+        CloudEvent other = new MapMessageReader(SpecVersion.V1, headers, null).toLazyEvent();
+
+        assertThat(lazyEvent)
+            .isEqualTo(other)
+            .hasSameHashCodeAs(other);
+    }
+
+    @Test
+    public void missingMandatoryAttributeFailsLikeToEvent() {
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("ce_id", ID);
+        headers.put("ce_type", TYPE);
+        MapMessageReader reader = new MapMessageReader(SpecVersion.V1, headers, null);
+        CloudEvent lazyEvent = reader.toLazyEvent();
+
+        assertThat(lazyEvent.getId()).isEqualTo(ID);
+        assertThatThrownBy(lazyEvent::getSource)
+            .isInstanceOf(CloudEventRWException.class)
+            .hasFieldOrPropertyWithValue("kind", CloudEventRWException.CloudEventRWExceptionKind.OTHER)
+            .hasMessageContaining("source");
+        assertThatThrownBy(reader::toEvent)
+            .isInstanceOf(CloudEventRWException.class)
+            .hasFieldOrPropertyWithValue("kind", CloudEventRWException.CloudEventRWExceptionKind.OTHER);
+    }
+
+    @Test
+    public void invalidAttributeValueFailsOnAccess() {
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("ce_id", ID);
+        headers.put("ce_type", TYPE);
+        headers.put("ce_source", "%%%");
+        CloudEvent lazyEvent = new MapMessageReader(SpecVersion.V1, headers, null).toLazyEvent();
+
+        assertThat(lazyEvent.getType()).isEqualTo(TYPE);
+        assertThatThrownBy(lazyEvent::getSource)
+            .isInstanceOf(CloudEventRWException.class)
+            .hasFieldOrPropertyWithValue("kind", CloudEventRWException.CloudEventRWExceptionKind.INVALID_ATTRIBUTE_VALUE);
+    }
+
+    @Test
+    public void headersAreIndexedOnce() {
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("ce_id", ID);
+        headers.put("ce_type", TYPE);
+        headers.put("ce_source", SOURCE.toString());
+        headers.put("ignored", "value");
+        MapMessageReader reader = new MapMessageReader(SpecVersion.V1, headers, null);
+        CloudEvent lazyEvent = reader.toLazyEvent();
+
+        assertThat(reader.visits).isZero();
+        lazyEvent.getId();
+        lazyEvent.getSource();
+        lazyEvent.getExtensionNames();
+        lazyEvent.hashCode();
+        assertThat(reader.visits).isEqualTo(1);
+    }
+
+    public static Stream<CloudEvent> events() {
+        return Stream.concat(Data.v1Events(), Data.v03Events());
+    }
+
+    private static class MapMessageReader extends BaseGenericBinaryMessageReaderImpl<String, String> {
+
+        private final Map<String, String> headers;
+        private int visits;
+
+        private MapMessageReader(SpecVersion version, Map<String, String> headers, CloudEventData body) {
+            super(version, body);
+            this.headers = headers;
+        }
+
+        private static MapMessageReader from(CloudEvent event) {
+            Map<String, String> headers = new LinkedHashMap<>();
+            headers.put("ce_specversion", event.getSpecVersion().toString());
+            for (String name : event.getAttributeNames()) {
+                Object value = event.getAttribute(name);
+                if (value != null && !name.equals("specversion")) {
+                    headers.put(name.equals("datacontenttype") ? "content-type" : "ce_" + name, value.toString());
+                }
+            }
+            for (String name : event.getExtensionNames()) {
+                headers.put("ce_" + name, event.getExtension(name).toString());
+            }
+            CloudEventData body = event.getData() != null ? BytesCloudEventData.wrap(event.getData().toBytes()) : null;
+            return new MapMessageReader(event.getSpecVersion(), headers, body);
+        }
+
+        @Override
+        protected boolean isContentTypeHeader(String key) {
+            return key.equals("content-type");
+        }
+
+        @Override
+        protected boolean isCloudEventsHeader(String key) {
+            return key.startsWith("ce_");
+        }
+
+        @Override
+        protected String toCloudEventsKey(String key) {
+            return key.substring("ce_".length());
+        }
+
+        @Override
+        protected void forEachHeader(BiConsumer<String, String> fn) {
+            this.visits++;
+            this.headers.forEach(fn);
+        }
+
+        @Override
+        protected String toCloudEventsValue(String value) {
+            return value;
+        }
+    }
+}
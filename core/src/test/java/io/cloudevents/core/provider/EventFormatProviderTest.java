@@ -17,9 +17,13 @@
 
 package io.cloudevents.core.provider;
 
+import io.cloudevents.core.format.CachingEventFormat;
 import io.cloudevents.core.mock.CSVFormat;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class EventFormatProviderTest {
@@ -41,4 +45,31 @@ public class EventFormatProviderTest {
         assertThat(EventFormatProvider.getInstance().getContentTypes()).hasSize(1);
     }
 
+    @Test
+    void getOrCreateFormat() {
+        AtomicInteger created = new AtomicInteger();
+        Function<Integer, CachingEventFormat> factory = maxEntries -> {
+            created.incrementAndGet();
+            return new CachingEventFormat(CSVFormat.INSTANCE, maxEntries);
+        };
+
+        CachingEventFormat format = EventFormatProvider.getInstance().getOrCreateFormat(4, factory);
+
+        assertThat(EventFormatProvider.getInstance().getOrCreateFormat(4, factory))
+            .isSameAs(format);
+        assertThat(created).hasValue(1);
+        assertThat(EventFormatProvider.getInstance().getContentTypes()).hasSize(1);
+
+        // Filling the cache, the formats of new options are no longer retained
+        for (int i = 0; i < EventFormatProvider.MAX_CONFIGURED_FORMATS; i++) {
+            EventFormatProvider.getInstance().getOrCreateFormat("bounded-" + i, o -> CSVFormat.INSTANCE);
+        }
+
+        assertThat(EventFormatProvider.getInstance().getOrCreateFormat(5, factory))
+            .isNotSameAs(EventFormatProvider.getInstance().getOrCreateFormat(5, factory));
+        assertThat(created).hasValue(3);
+        assertThat(EventFormatProvider.getInstance().getOrCreateFormat(4, factory))
+            .isSameAs(format);
+    }
+
 }
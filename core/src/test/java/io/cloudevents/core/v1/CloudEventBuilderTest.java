@@ -142,4 +142,40 @@ public class CloudEventBuilderTest {
         ).hasMessageContaining("Attribute 'type' cannot be null");
     }
 
+    @ParameterizedTest()
+    @MethodSource("io.cloudevents.core.test.Data#v1Events")
+    void testPooledBuilderFromEvent(CloudEvent event) {
+        assertThat(CloudEventBuilder.pooledV1(event).build()).isEqualTo(event);
+    }
+
+    @Test
+    void testPooledBuilderIsReset() {
+        io.cloudevents.core.v1.CloudEventBuilder builder = CloudEventBuilder.pooledV1(V1_WITH_JSON_DATA_WITH_EXT);
+        CloudEvent first = builder.build();
+
+        assertThat(CloudEventBuilder.pooledV1())
+            .isSameAs(builder);
+
+        CloudEvent second = builder
+            .withId(ID)
+            .withType(TYPE)
+            .withSource(SOURCE)
+            .build();
+
+        assertThat(second).isEqualTo(V1_MIN);
+        assertThat(first).isEqualTo(V1_WITH_JSON_DATA_WITH_EXT);
+    }
+
+    @Test
+    void testResetAfterBuildDoesNotAffectEvent() {
+        io.cloudevents.core.v1.CloudEventBuilder builder = CloudEventBuilder.v1(V1_WITH_JSON_DATA_WITH_EXT);
+        CloudEvent event = builder.build();
+
+        builder.reset();
+
+        assertThat(event).isEqualTo(V1_WITH_JSON_DATA_WITH_EXT);
+        assertThatCode(builder::build)
+            .hasMessageContaining("Attribute 'id' cannot be null");
+    }
+
 }
@@ -17,15 +17,21 @@
 
 package io.cloudevents.jackson;
 
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonLocation;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.ContentReference;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
-import com.fasterxml.jackson.databind.node.JsonNodeType;
-import com.fasterxml.jackson.databind.node.NullNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.cloudevents.AttributeKey;
 import io.cloudevents.CloudEvent;
 import io.cloudevents.CloudEventData;
 import io.cloudevents.SpecVersion;
@@ -33,13 +39,28 @@ import io.cloudevents.core.builder.CloudEventBuilder;
 import io.cloudevents.core.data.BytesCloudEventData;
 import io.cloudevents.rw.*;
 
-import java.nio.charset.StandardCharsets;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * Jackson {@link com.fasterxml.jackson.databind.JsonDeserializer} for {@link CloudEvent}
+ * Jackson {@link com.fasterxml.jackson.databind.JsonDeserializer} for {@link CloudEvent}.
+ * <p>
+ * The event is read in a single pass over the parser tokens, dispatching the attributes directly to the {@link CloudEventWriter}.
  */
 class CloudEventDeserializer extends StdDeserializer<CloudEvent> {
+
+    /**
+     * Key of the {@link DeserializationContext} attribute that, when set to {@link Boolean#TRUE}, makes this deserializer
+     * skip {@code data} and {@code data_base64} without decoding them, returning an event with the context attributes only.
+     */
+    static final Object SKIP_DATA = new Object();
+
+    // JsonLocation#contentReference() is required to capture the raw data, but it's available only since Jackson 2.13,
+    // while applications can still run with older versions (e.g. Spring Boot 2.4 manages Jackson 2.11)
+    private static final boolean RAW_DATA_SUPPORTED = isContentReferenceAvailable();
+
     private final boolean forceExtensionNameLowerCaseDeserialization;
     private final boolean forceIgnoreInvalidExtensionNameDeserialization;
 
@@ -59,132 +80,123 @@ class CloudEventDeserializer extends StdDeserializer<CloudEvent> {
     private static class JsonMessage implements CloudEventReader {
 
         private final JsonParser p;
-        private final ObjectNode node;
+        private final DeserializationContext ctxt;
         private final boolean forceExtensionNameLowerCaseDeserialization;
         private final boolean forceIgnoreInvalidExtensionNameDeserialization;
+        private final boolean skipData;
+
+        // State collected while reading, this reader can be consumed only once
+        private int foundAttributes;
+        private String contentType;
+        private String dataContentEncoding;
+        private boolean hasData;
+        private String dataText;
+        private JsonNode dataNode;
+        private JsonCloudEventData dataRaw;
+        private byte[] dataBase64;
 
         public JsonMessage(
             JsonParser p,
-            ObjectNode node,
+            DeserializationContext ctxt,
             boolean forceExtensionNameLowerCaseDeserialization,
             boolean forceIgnoreInvalidExtensionNameDeserialization
         ) {
             this.p = p;
-            this.node = node;
+            this.ctxt = ctxt;
             this.forceExtensionNameLowerCaseDeserialization = forceExtensionNameLowerCaseDeserialization;
             this.forceIgnoreInvalidExtensionNameDeserialization = forceIgnoreInvalidExtensionNameDeserialization;
+            this.skipData = Boolean.TRUE.equals(ctxt.getAttribute(SKIP_DATA));
         }
 
         @Override
         public <T extends CloudEventWriter<V>, V> V read(CloudEventWriterFactory<T, V> writerFactory, CloudEventDataMapper<? extends CloudEventData> mapper) throws CloudEventRWException, IllegalStateException {
             try {
-                SpecVersion specVersion = SpecVersion.parse(getStringNode(this.node, this.p, "specversion"));
-                CloudEventWriter<V> writer = writerFactory.create(specVersion);
-
-                // TODO remove all the unnecessary code specversion aware
-
-                // Read mandatory attributes
-                for (String attr : specVersion.getMandatoryAttributes()) {
-                    if (!"specversion".equals(attr)) {
-                        writer.withContextAttribute(attr, getStringNode(this.node, this.p, attr));
-                    }
-                }
-
-                // Parse datacontenttype if any
-                String contentType = getOptionalStringNode(this.node, this.p, "datacontenttype");
-                if (contentType != null) {
-                    writer.withContextAttribute("datacontenttype", contentType);
-                }
-
-                // Read optional attributes
-                for (String attr : specVersion.getOptionalAttributes()) {
-                    if (!"datacontentencoding".equals(attr)) { // Skip datacontentencoding, we need it later
-                        String val = getOptionalStringNode(this.node, this.p, attr);
-                        if (val != null) {
-                            writer.withContextAttribute(attr, val);
-                        }
-                    }
+                JsonToken token = p.currentToken();
+                if (token == JsonToken.START_OBJECT) {
+                    token = p.nextToken();
                 }
 
-                CloudEventData data = null;
-
-                // Now let's handle the data
-                switch (specVersion) {
-                    case V03:
-                        boolean isBase64 = "base64".equals(getOptionalStringNode(this.node, this.p, "datacontentencoding"));
-                        if (node.has("data")) {
-                            if (isBase64) {
-                                data = BytesCloudEventData.wrap(node.remove("data").binaryValue());
-                            } else {
-                                if (JsonFormat.dataIsJsonContentType(contentType)) {
-                                    // This solution is quite bad, but i see no alternatives now.
-                                    // Hopefully in future we can improve it
-                                    data = JsonCloudEventData.wrap(node.remove("data"));
-                                } else {
-                                    JsonNode dataNode = node.remove("data");
-                                    assertNodeType(dataNode, JsonNodeType.STRING, "data", "Because content type is not a json, only a string is accepted as data");
-                                    data = BytesCloudEventData.wrap(dataNode.asText().getBytes(StandardCharsets.UTF_8));
-                                }
+                SpecVersion specVersion = null;
+                CloudEventWriter<V> writer = null;
+                // Attributes preceding specversion are buffered until we know which writer to create
+                List<String> pendingNames = null;
+                List<TokenBuffer> pendingValues = null;
+
+                for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                    String name = p.currentName();
+                    p.nextToken();
+                    switch (name) {
+                        case "specversion":
+                            String specVersionValue = readOptionalString(p, name);
+                            if (specVersionValue == null) {
+                                throw missingAttribute(name);
                             }
-                        }
-                    case V1:
-                        if (node.has("data_base64") && node.has("data")) {
-                            throw MismatchedInputException.from(p, CloudEvent.class, "CloudEvent cannot have both 'data' and 'data_base64' fields");
-                        }
-                        if (node.has("data_base64")) {
-                            data = BytesCloudEventData.wrap(node.remove("data_base64").binaryValue());
-                        } else if (node.has("data")) {
-                            if (JsonFormat.dataIsJsonContentType(contentType)) {
-                                // This solution is quite bad, but i see no alternatives now.
-                                // Hopefully in future we can improve it
-                                data = JsonCloudEventData.wrap(node.remove("data"));
-                            } else {
-                                JsonNode dataNode = node.remove("data");
-                                assertNodeType(dataNode, JsonNodeType.STRING, "data", "Because content type is not a json, only a string is accepted as data");
-                                data = BytesCloudEventData.wrap(dataNode.asText().getBytes(StandardCharsets.UTF_8));
+                            specVersion = SpecVersion.parse(specVersionValue);
+                            writer = writerFactory.create(specVersion);
+                            if (pendingNames != null) {
+                                for (int i = 0; i < pendingNames.size(); i++) {
+                                    JsonParser buffered = pendingValues.get(i).asParser(p.getCodec());
+                                    buffered.nextToken();
+                                    readAttribute(writer, specVersion, pendingNames.get(i), buffered);
+                                }
                             }
-                        }
-                }
-
-                // Now let's process the extensions
-                node.fields().forEachRemaining(entry -> {
-                    String extensionName = entry.getKey();
-                    if (this.forceExtensionNameLowerCaseDeserialization) {
-                        extensionName = extensionName.toLowerCase();
-                    }
-
-                    if (this.shouldSkipExtensionName(extensionName)) {
-                        return;
-                    }
-
-                    JsonNode extensionValue = entry.getValue();
-
-                    switch (extensionValue.getNodeType()) {
-                        case BOOLEAN:
-                            writer.withContextAttribute(extensionName, extensionValue.booleanValue());
                             break;
-                        case NUMBER:
-
-                            final Number numericValue = extensionValue.numberValue();
-
-                            // Only 'Int' values are supported by the specification
-
-                            if (numericValue instanceof Integer){
-                                writer.withContextAttribute(extensionName, (Integer) numericValue);
-                            } else{
-                                throw CloudEventRWException.newInvalidAttributeType(extensionName,numericValue);
+                        case "data":
+                            if (this.hasData) {
+                                throw bothDataFields();
+                            }
+                            this.hasData = true;
+                            if (this.skipData) {
+                                // Strings are decoded only on request, so moving to the next token skips them too
+                                p.skipChildren();
+                            } else if (p.currentToken() == JsonToken.VALUE_STRING) {
+                                this.dataText = p.getText();
+                            } else if ((this.dataRaw = readRawValue(p)) == null) {
+                                this.dataNode = ctxt.readTree(p);
                             }
-
                             break;
-                        case STRING:
-                            writer.withContextAttribute(extensionName, extensionValue.textValue());
+                        case "data_base64":
+                            if (this.hasData) {
+                                throw bothDataFields();
+                            }
+                            this.hasData = true;
+                            assertTokenType(p, JsonToken.VALUE_STRING, name, null);
+                            if (!this.skipData) {
+                                // Decode straight from the input into a reused buffer, copying only the result
+                                ReusableByteArrayOutputStream decoded = ReusableByteArrayOutputStream.get();
+                                p.readBinaryValue(decoded);
+                                this.dataBase64 = decoded.toByteArray();
+                            }
                             break;
                         default:
-                            writer.withContextAttribute(extensionName, extensionValue.toString());
+                            if (writer != null) {
+                                readAttribute(writer, specVersion, name, p);
+                            } else {
+                                if (pendingNames == null) {
+                                    pendingNames = new ArrayList<>();
+                                    pendingValues = new ArrayList<>();
+                                }
+                                TokenBuffer buffer = new TokenBuffer(p, ctxt);
+                                buffer.copyCurrentStructure(p);
+                                pendingNames.add(name);
+                                pendingValues.add(buffer);
+                            }
                     }
+                }
 
-                });
+                if (token != JsonToken.END_OBJECT) {
+                    throw MismatchedInputException.from(p, CloudEvent.class, "Expecting a JSON object, found " + token);
+                }
+                if (writer == null) {
+                    throw missingAttribute("specversion");
+                }
+                for (String attr : specVersion.getMandatoryAttributes()) {
+                    if (!"specversion".equals(attr) && (this.foundAttributes & mask(AttributeKey.lookup(attr))) == 0) {
+                        throw missingAttribute(attr);
+                    }
+                }
 
+                CloudEventData data = readData(specVersion);
                 if (data != null) {
                     return writer.end(mapper.map(data));
                 }
@@ -196,30 +208,188 @@ class CloudEventDeserializer extends StdDeserializer<CloudEvent> {
             }
         }
 
-        private String getStringNode(ObjectNode objNode, JsonParser p, String attributeName) throws JsonProcessingException {
-            String val = getOptionalStringNode(objNode, p, attributeName);
-            if (val == null) {
-                throw MismatchedInputException.from(p, CloudEvent.class, "Missing mandatory " + attributeName + " attribute");
+        private void readAttribute(CloudEventContextWriter writer, SpecVersion specVersion, String name, JsonParser parser) throws IOException {
+            AttributeKey key = AttributeKey.lookup(specVersion, name);
+            if (key == null) {
+                readExtension(writer, name, parser);
+                return;
+            }
+
+            String value = readOptionalString(parser, name);
+            if (value == null) {
+                return;
             }
-            return val;
+            this.foundAttributes |= mask(key);
+            switch (key) {
+                case DATACONTENTTYPE:
+                    this.contentType = value;
+                    break;
+                case DATACONTENTENCODING:
+                    // Not an attribute of the event, it only drives the decoding of data
+                    this.dataContentEncoding = value;
+                    return;
+            }
+            writer.withContextAttribute(name, value);
         }
 
-        private String getOptionalStringNode(ObjectNode objNode, JsonParser p, String attributeName) throws JsonProcessingException {
-            JsonNode unparsedAttribute = objNode.remove(attributeName);
-            if (unparsedAttribute == null || unparsedAttribute instanceof NullNode) {
+        private void readExtension(CloudEventContextWriter writer, String extensionName, JsonParser parser) throws IOException {
+            if (this.forceExtensionNameLowerCaseDeserialization) {
+                extensionName = extensionName.toLowerCase();
+            }
+
+            if (this.shouldSkipExtensionName(extensionName)) {
+                parser.skipChildren();
+                return;
+            }
+
+            switch (parser.currentToken()) {
+                case VALUE_TRUE:
+                case VALUE_FALSE:
+                    writer.withContextAttribute(extensionName, parser.getBooleanValue());
+                    break;
+                case VALUE_NUMBER_INT:
+                case VALUE_NUMBER_FLOAT:
+                    // Only 'Int' values are supported by the specification
+                    if (parser.getNumberType() == JsonParser.NumberType.INT) {
+                        writer.withContextAttribute(extensionName, parser.getIntValue());
+                    } else {
+                        throw CloudEventRWException.newInvalidAttributeType(extensionName, parser.getNumberValue());
+                    }
+                    break;
+                case VALUE_STRING:
+                    writer.withContextAttribute(extensionName, parser.getText());
+                    break;
+                default:
+                    writer.withContextAttribute(extensionName, ctxt.readTree(parser).toString());
+            }
+        }
+
+        private CloudEventData readData(SpecVersion specVersion) throws IOException {
+            if (this.skipData) {
+                return null;
+            }
+            if (this.dataBase64 != null) {
+                return BytesCloudEventData.wrap(this.dataBase64);
+            }
+            if (!this.hasData) {
+                return null;
+            }
+            if (specVersion == SpecVersion.V03 && "base64".equals(this.dataContentEncoding)) {
+                assertDataIsText("Because datacontentencoding is base64, only a string is accepted as data");
+                return BytesCloudEventData.wrap(Base64Variants.getDefaultVariant().decode(this.dataText));
+            }
+            if (JsonFormat.dataIsJsonContentType(this.contentType)) {
+                if (this.dataRaw != null) {
+                    return this.dataRaw;
+                }
+                return JsonCloudEventData.wrap(this.dataText != null ? TextNode.valueOf(this.dataText) : this.dataNode);
+            }
+            assertDataIsText("Because content type is not a json, only a string is accepted as data");
+            return BytesCloudEventData.wrap(this.dataText.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Skip the current object or array, capturing its range in the input buffer.
+         *
+         * @return the captured value, or null if the parser is not reading from a byte array, leaving it on the current token
+         */
+        private static JsonCloudEventData readRawValue(JsonParser parser) throws IOException {
+            JsonToken token = parser.currentToken();
+            if (!RAW_DATA_SUPPORTED || (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY)) {
+                return null;
+            }
+            JsonLocation start = parser.getTokenLocation();
+            ContentReference content = start.contentReference();
+            if (content == null || !(content.getRawContent() instanceof byte[]) || start.getByteOffset() < 0) {
+                return null;
+            }
+            parser.skipChildren();
+            long end = parser.getCurrentLocation().getByteOffset();
+            // The byte offsets are relative to the content offset, which is negative when the whole buffer is parsed
+            return JsonCloudEventData.wrapRaw(
+                treeReader(parser),
+                (byte[]) content.getRawContent(),
+                Math.max(content.contentOffset(), 0) + (int) start.getByteOffset(),
+                (int) (end - start.getByteOffset())
+            );
+        }
+
+        /**
+         * @return a reader configured like the one parsing the event, or null if not known
+         */
+        private static ObjectReader treeReader(JsonParser parser) {
+            if (parser.getCodec() instanceof ObjectReader) {
+                return (ObjectReader) parser.getCodec();
+            }
+            if (parser.getCodec() instanceof ObjectMapper) {
+                return ((ObjectMapper) parser.getCodec()).reader();
+            }
+            return null;
+        }
+
+        private String readOptionalString(JsonParser parser, String attributeName) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) {
                 return null;
             }
-            assertNodeType(unparsedAttribute, JsonNodeType.STRING, attributeName, null);
-            return unparsedAttribute.asText();
+            assertTokenType(parser, JsonToken.VALUE_STRING, attributeName, null);
+            return parser.getText();
         }
 
-        private void assertNodeType(JsonNode node, JsonNodeType type, String attributeName, String desc) throws JsonProcessingException {
-            if (node.getNodeType() != type) {
-                throw MismatchedInputException.from(
-                    p,
-                    CloudEvent.class,
-                    "Wrong type " + node.getNodeType() + " for attribute " + attributeName + ", expecting " + type + (desc != null ? ". " + desc : "")
-                );
+        private void assertTokenType(JsonParser parser, JsonToken expected, String attributeName, String desc) throws JsonProcessingException {
+            if (parser.currentToken() != expected) {
+                throw wrongType(nodeTypeName(parser.currentToken()), attributeName, nodeTypeName(expected), desc);
+            }
+        }
+
+        private void assertDataIsText(String desc) throws JsonProcessingException {
+            if (this.dataText == null) {
+                JsonNode node = this.dataNode != null ? this.dataNode : this.dataRaw.getNode();
+                throw wrongType(node.getNodeType().toString(), "data", nodeTypeName(JsonToken.VALUE_STRING), desc);
+            }
+        }
+
+        private JsonProcessingException wrongType(String actual, String attributeName, String expected, String desc) {
+            return MismatchedInputException.from(
+                p,
+                CloudEvent.class,
+                "Wrong type " + actual + " for attribute " + attributeName + ", expecting " + expected + (desc != null ? ". " + desc : "")
+            );
+        }
+
+        private JsonProcessingException missingAttribute(String attributeName) {
+            return MismatchedInputException.from(p, CloudEvent.class, "Missing mandatory " + attributeName + " attribute");
+        }
+
+        private JsonProcessingException bothDataFields() {
+            return MismatchedInputException.from(p, CloudEvent.class, "CloudEvent cannot have both 'data' and 'data_base64' fields");
+        }
+
+        private static int mask(AttributeKey key) {
+            return 1 << key.ordinal();
+        }
+
+        /**
+         * @return the name of the {@link com.fasterxml.jackson.databind.node.JsonNodeType} matching the provided value token,
+         * to keep the error messages consistent with the ones reporting the type of the data node.
+         */
+        private static String nodeTypeName(JsonToken token) {
+            switch (token) {
+                case VALUE_STRING:
+                    return "STRING";
+                case VALUE_NUMBER_INT:
+                case VALUE_NUMBER_FLOAT:
+                    return "NUMBER";
+                case VALUE_TRUE:
+                case VALUE_FALSE:
+                    return "BOOLEAN";
+                case START_OBJECT:
+                    return "OBJECT";
+                case START_ARRAY:
+                    return "ARRAY";
+                case VALUE_EMBEDDED_OBJECT:
+                    return "POJO";
+                default:
+                    return token.toString();
             }
         }
 
@@ -250,14 +420,19 @@ class CloudEventDeserializer extends StdDeserializer<CloudEvent> {
 
     }
 
+    private static boolean isContentReferenceAvailable() {
+        try {
+            JsonLocation.class.getMethod("contentReference");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
     @Override
     public CloudEvent deserialize(JsonParser p, DeserializationContext ctxt) throws IOException, JsonProcessingException {
-        // In future we could eventually find a better solution avoiding this buffering step, but now this is the best option
-        // Other sdk does the same in order to support all versions
-        ObjectNode node = ctxt.readValue(p, ObjectNode.class);
-
         try {
-            return new JsonMessage(p, node, this.forceExtensionNameLowerCaseDeserialization, this.forceIgnoreInvalidExtensionNameDeserialization)
+            return new JsonMessage(p, ctxt, this.forceExtensionNameLowerCaseDeserialization, this.forceIgnoreInvalidExtensionNameDeserialization)
                 .read(CloudEventBuilder::fromSpecVersion);
         } catch (RuntimeException e) {
             // Yeah this is bad but it's needed to support checked exceptions...
@@ -20,15 +20,21 @@ package io.cloudevents.jackson;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import io.cloudevents.CloudEvent;
 import io.cloudevents.CloudEventData;
 import io.cloudevents.core.CloudEventUtils;
+import io.cloudevents.core.data.BinaryCloudEventData;
+import io.cloudevents.core.data.BytesCloudEventData;
+import io.cloudevents.core.data.PojoCloudEventData;
+import io.cloudevents.core.data.StreamCloudEventData;
+import io.cloudevents.core.format.EventSerializationException;
 import io.cloudevents.rw.CloudEventContextReader;
 import io.cloudevents.rw.CloudEventContextWriter;
 import io.cloudevents.rw.CloudEventRWException;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
 
 /**
  * Jackson {@link com.fasterxml.jackson.databind.JsonSerializer} for {@link CloudEvent}
@@ -69,7 +75,7 @@ class CloudEventSerializer extends StdSerializer<CloudEvent> {
         {
             // Only Integer types are supported by the specification
             if (value instanceof Integer) {
-                this.withContextAttribute(name, (Integer) value);
+                this.withContextAttribute(name, value.intValue());
             } else {
                 // Default to string representation for other numeric values
                 this.withContextAttribute(name, value.toString());
@@ -80,8 +86,24 @@ class CloudEventSerializer extends StdSerializer<CloudEvent> {
         @Override
         public CloudEventContextWriter withContextAttribute(String name, Integer value) throws CloudEventRWException
         {
+            return this.withContextAttribute(name, value.intValue());
+        }
+
+        @Override
+        public CloudEventContextWriter withContextAttribute(String name, int value) throws CloudEventRWException
+        {
+            try {
+                gen.writeNumberField(name, value);
+                return this;
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public CloudEventContextWriter withContextAttribute(String name, boolean value) throws CloudEventRWException {
             try {
-                gen.writeNumberField(name, value.intValue());
+                gen.writeBooleanField(name, value);
                 return this;
             } catch (IOException e) {
                 throw new RuntimeException(e);
@@ -117,28 +139,33 @@ class CloudEventSerializer extends StdSerializer<CloudEvent> {
         if (value.getData() != null) {
             CloudEventData data = value.getData();
             if (data instanceof JsonCloudEventData) {
-                gen.writeObjectField("data", ((JsonCloudEventData) data).getNode());
+                gen.writeFieldName("data");
+                ((JsonCloudEventData) data).writeTo(gen);
+            } else if (isJacksonPojo(data) && !this.forceDataBase64Serialization && JsonFormat.dataIsJsonContentType(value.getDataContentType())) {
+                // Stream the POJO straight into the event, without serializing it to a byte array first
+                PojoCloudEventData<?> pojo = (PojoCloudEventData<?>) data;
+                gen.writeFieldName("data");
+                ((ObjectMapperToBytes<?>) pojo.getMapper()).writeValue(gen, pojo.getValue());
             } else {
-                byte[] dataBytes = data.toBytes();
                 String contentType = value.getDataContentType();
                 if (shouldSerializeBase64(contentType)) {
                     switch (value.getSpecVersion()) {
                         case V03:
                             gen.writeStringField("datacontentencoding", "base64");
                             gen.writeFieldName("data");
-                            gen.writeBinary(dataBytes);
+                            writeBinary(gen, data);
                             break;
                         case V1:
                             gen.writeFieldName("data_base64");
-                            gen.writeBinary(dataBytes);
+                            writeBinary(gen, data);
                             break;
                     }
                 } else if (JsonFormat.dataIsJsonContentType(contentType)) {
-                    // TODO really bad b/c it allocates stuff, is there another solution out there?
-                    char[] dataAsString = new String(dataBytes, StandardCharsets.UTF_8).toCharArray();
+                    byte[] dataBytes = data.toBytes();
                     gen.writeFieldName("data");
-                    gen.writeRawValue(dataAsString, 0, dataAsString.length);
+                    RawJsonValue.writeRawValue(gen, dataBytes, 0, dataBytes.length);
                 } else {
+                    byte[] dataBytes = data.toBytes();
                     gen.writeFieldName("data");
                     gen.writeUTF8String(dataBytes, 0, dataBytes.length);
                 }
@@ -147,6 +174,36 @@ class CloudEventSerializer extends StdSerializer<CloudEvent> {
         gen.writeEndObject();
     }
 
+    /**
+     * Write the data encoded in base64, streaming it into the generator when it's not backed by a byte array.
+     * A {@link StreamCloudEventData} is consumed and closed.
+     */
+    private static void writeBinary(JsonGenerator gen, CloudEventData data) throws IOException {
+        if (data instanceof BinaryCloudEventData && !(data instanceof BytesCloudEventData)) {
+            BinaryCloudEventData binary = (BinaryCloudEventData) data;
+            gen.writeBinary(new ByteBufferBackedInputStream(binary.asReadOnlyByteBuffer()), binary.length());
+        } else if (data instanceof StreamCloudEventData) {
+            StreamCloudEventData stream = (StreamCloudEventData) data;
+            long length = stream.getLength();
+            InputStream in;
+            try {
+                in = stream.getInputStream();
+            } catch (IllegalStateException e) {
+                throw new EventSerializationException(e);
+            }
+            // The stream is consumed, close it like toBytes() does, releasing for example spilled files
+            try (InputStream toClose = in) {
+                gen.writeBinary(toClose, length >= 0 && length <= Integer.MAX_VALUE ? (int) length : -1);
+            }
+        } else {
+            gen.writeBinary(data.toBytes());
+        }
+    }
+
+    private static boolean isJacksonPojo(CloudEventData data) {
+        return data instanceof PojoCloudEventData && ((PojoCloudEventData<?>) data).getMapper() instanceof ObjectMapperToBytes;
+    }
+
     private boolean shouldSerializeBase64(String contentType) {
         if (JsonFormat.dataIsJsonContentType(contentType)) {
             return this.forceDataBase64Serialization;
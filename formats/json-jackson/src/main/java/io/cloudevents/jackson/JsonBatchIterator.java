@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.core.format.EventDeserializationException;
+import io.cloudevents.rw.CloudEventDataMapper;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link Iterator} decoding the events of a JSON array one at a time, leaving the parser on the array when an event is read.
+ */
+final class JsonBatchIterator implements Iterator<CloudEvent> {
+
+    private final ObjectMapper mapper;
+    private final JsonParser parser;
+    private final CloudEventDataMapper<? extends CloudEventData> dataMapper;
+    private JsonToken next;
+
+    /**
+     * @param mapper     the mapper configured with the {@link CloudEvent} deserializer
+     * @param parser     the parser, positioned on the start of the array
+     * @param dataMapper the mapper to use to map the data of each event
+     */
+    JsonBatchIterator(ObjectMapper mapper, JsonParser parser, CloudEventDataMapper<? extends CloudEventData> dataMapper) {
+        this.mapper = mapper;
+        this.parser = parser;
+        this.dataMapper = dataMapper;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = parser.nextToken();
+            } catch (IOException e) {
+                throw new EventDeserializationException(e);
+            }
+            if (next == null) {
+                throw new EventDeserializationException(new IOException("Unexpected end of input, the batch array is not closed"));
+            }
+        }
+        if (next == JsonToken.END_ARRAY) {
+            try {
+                parser.close();
+            } catch (IOException e) {
+                throw new EventDeserializationException(e);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public CloudEvent next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        CloudEvent event;
+        try {
+            event = mapper.readValue(parser, CloudEvent.class);
+        } catch (IOException e) {
+            throw new EventDeserializationException(e);
+        }
+        next = null;
+        return JsonFormat.mapData(event, dataMapper);
+    }
+}
@@ -17,18 +17,33 @@
 
 package io.cloudevents.jackson;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import io.cloudevents.CloudEventData;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
  * This class is a wrapper for Jackson {@link JsonNode} implementing {@link CloudEventData}.
+ * <p>
+ * When created by the {@link JsonFormat} deserializer, this class holds a copy of the input bytes containing the JSON {@code data},
+ * which is parsed to a {@link JsonNode} with the {@link ObjectMapper} of the format only the first time {@link #getNode()} is invoked,
+ * and it's written back as it is when the event is serialized again.
  */
 public class JsonCloudEventData implements CloudEventData {
 
-    private final JsonNode node;
+    private static final ObjectReader DEFAULT_READER = new ObjectMapper().reader();
+
+    private volatile JsonNode node;
+    private final ObjectReader treeReader;
+    private final byte[] raw;
 
     /**
      * @param node the json node to wrap
@@ -37,10 +52,20 @@ public class JsonCloudEventData implements CloudEventData {
     public JsonCloudEventData(JsonNode node) {
         Objects.requireNonNull(node);
         this.node = node;
+        this.treeReader = DEFAULT_READER;
+        this.raw = null;
+    }
+
+    private JsonCloudEventData(ObjectReader treeReader, byte[] raw) {
+        this.treeReader = treeReader != null ? treeReader : DEFAULT_READER;
+        this.raw = raw;
     }
 
     @Override
     public byte[] toBytes() {
+        if (raw != null) {
+            return raw.clone();
+        }
         return node.toString().getBytes(StandardCharsets.UTF_8);
     }
 
@@ -48,7 +73,38 @@ public class JsonCloudEventData implements CloudEventData {
      * @return the wrapped {@link JsonNode}
      */
     public JsonNode getNode() {
-        return node;
+        JsonNode n = this.node;
+        if (n == null) {
+            try {
+                n = treeReader.readTree(raw);
+            } catch (IOException e) {
+                // The range was already validated by the parser that captured it
+                throw new UncheckedIOException(e);
+            }
+            this.node = n;
+        }
+        return n;
+    }
+
+    /**
+     * Bind the data to the provided type, reading it straight from the captured bytes when available.
+     */
+    <T> T readValue(ObjectMapper mapper, JavaType type) throws IOException {
+        if (raw != null) {
+            return mapper.readValue(raw, type);
+        }
+        return mapper.convertValue(node, type);
+    }
+
+    /**
+     * Write the data as the current value of the provided generator.
+     */
+    void writeTo(JsonGenerator gen) throws IOException {
+        if (raw != null) {
+            RawJsonValue.writeRawValue(gen, raw, 0, raw.length);
+        } else {
+            gen.writeObject(node);
+        }
     }
 
     @Override
@@ -67,7 +123,7 @@ public class JsonCloudEventData implements CloudEventData {
     @Override
     public String toString() {
         return "JsonCloudEventData{" +
-            "node=" + node +
+            "node=" + getNode() +
             '}';
     }
 
@@ -79,4 +135,17 @@ public class JsonCloudEventData implements CloudEventData {
         return new JsonCloudEventData(node);
     }
 
+    /**
+     * Wrap a copy of a range of bytes containing an UTF-8 encoded JSON value, so the event doesn't retain nor depend on the input buffer.
+     *
+     * @param treeReader the reader used to parse the value when accessed as {@link JsonNode}, or null to use a default one
+     * @param raw        the buffer
+     * @param offset     the offset of the JSON value in the buffer
+     * @param length     the length of the JSON value
+     * @return the raw JSON value wrapped in a {@link JsonCloudEventData}
+     */
+    static JsonCloudEventData wrapRaw(ObjectReader treeReader, byte[] raw, int offset, int length) {
+        return new JsonCloudEventData(treeReader, Arrays.copyOfRange(raw, offset, offset + length));
+    }
+
 }
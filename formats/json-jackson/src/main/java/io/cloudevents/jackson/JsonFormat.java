@@ -16,41 +16,72 @@
  */
 package io.cloudevents.jackson;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import io.cloudevents.CloudEvent;
 import io.cloudevents.CloudEventData;
 import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.format.BatchEventFormat;
 import io.cloudevents.core.format.ContentType;
+import io.cloudevents.core.format.DataContentType;
 import io.cloudevents.core.format.EventDeserializationException;
 import io.cloudevents.core.format.EventFormat;
 import io.cloudevents.core.format.EventSerializationException;
+import io.cloudevents.core.provider.EventFormatProvider;
 import io.cloudevents.rw.CloudEventDataMapper;
 import io.cloudevents.rw.CloudEventRWException;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.regex.Pattern;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Implementation of {@link EventFormat} for <a href="https://github.com/cloudevents/spec/blob/v1.0/json-format.md">JSON event format</a>
  * using Jackson. This format is resolvable with {@link io.cloudevents.core.provider.EventFormatProvider} using the content type {@link #CONTENT_TYPE}.
  * <p>
+ * This class implements the <a href="https://github.com/cloudevents/spec/blob/v1.0/json-format.md#4-json-batch-format">JSON batch format</a> too,
+ * resolvable with {@link io.cloudevents.core.provider.EventFormatProvider#resolveBatchFormat(String)} using the content type {@link #BATCH_CONTENT_TYPE}.
+ * <p>
+ * Streams of newline delimited JSON events can be read and written with {@link #newNdJsonReader(InputStream)} and
+ * {@link #newNdJsonWriter(OutputStream)}, while chunks of them can be decoded in parallel with {@link #deserializeNdJson(byte[], boolean)}.
+ * <p>
  * If you want to use the {@link CloudEvent} serializers/deserializers directly in your mapper, you can use {@link #getCloudEventJacksonModule()} or
  * {@link #getCloudEventJacksonModule(boolean, boolean)} to get a {@link SimpleModule} to register in your {@link ObjectMapper} instance.
  */
-public final class JsonFormat implements EventFormat {
+public final class JsonFormat implements EventFormat, BatchEventFormat {
 
     /**
      * Content type associated with the JSON event format
      */
     public static final String CONTENT_TYPE = "application/cloudevents+json";
     /**
-     * JSON Data Content Type Discriminator
+     * Content type associated with the JSON batch format
      */
-    private static final Pattern JSON_CONTENT_TYPE_PATTERN = Pattern.compile("^(application|text)\\/([a-zA-Z]+\\+)?json(;.*)*$");
+    public static final String BATCH_CONTENT_TYPE = "application/cloudevents-batch+json";
     private final ObjectMapper mapper;
+    private final ObjectWriter sequenceWriter;
+    private final ObjectReader attributesReader;
     private final JsonFormatOptions options;
+    // Formats derived from the same custom mapper or factory through the withForce methods, indexed by their flags
+    private final AtomicReferenceArray<JsonFormat> variants;
 
     /**
      * Create a new instance of this class customizing the serialization configuration.
@@ -71,13 +102,53 @@ public final class JsonFormat implements EventFormat {
 
     /**
      * Create a new instance of this class customizing the serialization configuration.
+     * <p>
+     * When {@link JsonFormatOptions#getObjectMapper()} is set, the CloudEvent module is registered in a copy of it,
+     * so the mapper, and its subclass if any, must support {@link ObjectMapper#copy()}.
+     * When {@link JsonFormatOptions#getJsonFactory()} is set, the factory is used as it is, without copying it, so subclasses
+     * plugging custom buffer recycling work as well. If the factory has no codec, the mapper of this format becomes its codec.
      *
      * @param options json serialization / deserialization options
      */
     public JsonFormat(JsonFormatOptions options) {
-        this.mapper = new ObjectMapper();
+        this(options, new AtomicReferenceArray<>(1 << 4));
+    }
+
+    private JsonFormat(JsonFormatOptions options, AtomicReferenceArray<JsonFormat> variants) {
+        if (options.getObjectMapper() != null) {
+            // Register the CloudEvent module in a copy, leaving the provided mapper untouched
+            this.mapper = options.getObjectMapper().copy();
+        } else if (options.getJsonFactory() != null) {
+            this.mapper = new ObjectMapper(options.getJsonFactory());
+        } else {
+            this.mapper = new ObjectMapper();
+        }
         this.mapper.registerModule(getCloudEventJacksonModule(options));
+        // Writer for sequences of events, which are flushed only when all the events are written or when requested
+        this.sequenceWriter = this.mapper.writerFor(CloudEvent.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.attributesReader = this.mapper.readerFor(CloudEvent.class).withAttribute(CloudEventDeserializer.SKIP_DATA, Boolean.TRUE);
         this.options = options;
+        this.variants = variants;
+        this.variants.compareAndSet(variantIndex(options), null, this);
+    }
+
+    /**
+     * Get the instance of this class configured with the provided options, shared through
+     * {@link io.cloudevents.core.provider.EventFormatProvider#getOrCreateFormat(Object, java.util.function.Function)}.
+     * Prefer this method to the constructors to avoid creating a new {@link ObjectMapper} for options already in use.
+     * <p>
+     * Only the options without a custom {@link ObjectMapper} or {@link JsonFactory} are shared: when one of them is set,
+     * a new instance is created on every invocation, while the formats derived from it through the {@code withForce} methods
+     * are created once and then reused.
+     *
+     * @param options json serialization / deserialization options
+     * @return the format configured with the provided options
+     */
+    public static JsonFormat of(JsonFormatOptions options) {
+        if (options.getObjectMapper() != null || options.getJsonFactory() != null) {
+            return new JsonFormat(options);
+        }
+        return EventFormatProvider.getInstance().getOrCreateFormat(options, JsonFormat::new);
     }
 
     /**
@@ -91,56 +162,49 @@ public final class JsonFormat implements EventFormat {
      * @return a copy of this JsonFormat that serialize events with json data with Base64 encoding
      */
     public JsonFormat withForceJsonDataToBase64() {
-        return new JsonFormat(
-            JsonFormatOptions.builder()
-                .forceDataBase64Serialization(true)
-                .forceStringSerialization(this.options.isForceStringSerialization())
-                .forceExtensionNameLowerCaseDeserialization(this.options.isForceExtensionNameLowerCaseDeserialization())
-                .forceIgnoreInvalidExtensionNameDeserialization(this.options.isForceIgnoreInvalidExtensionNameDeserialization())
-                .build()
-        );
+        return variant(this.options.toBuilder().forceDataBase64Serialization(true).build());
     }
 
     /**
      * @return a copy of this JsonFormat that serialize events with non-json data as string
      */
     public JsonFormat withForceNonJsonDataToString() {
-        return new JsonFormat(
-            JsonFormatOptions.builder()
-                .forceDataBase64Serialization(this.options.isForceDataBase64Serialization())
-                .forceStringSerialization(true)
-                .forceExtensionNameLowerCaseDeserialization(this.options.isForceExtensionNameLowerCaseDeserialization())
-                .forceIgnoreInvalidExtensionNameDeserialization(this.options.isForceIgnoreInvalidExtensionNameDeserialization())
-                .build()
-        );
+        return variant(this.options.toBuilder().forceStringSerialization(true).build());
     }
 
     /**
      * @return a copy of this JsonFormat that deserialize events with converting extension name lower case.
      */
     public JsonFormat withForceExtensionNameLowerCaseDeserialization() {
-        return new JsonFormat(
-            JsonFormatOptions.builder()
-                .forceDataBase64Serialization(this.options.isForceDataBase64Serialization())
-                .forceStringSerialization(this.options.isForceStringSerialization())
-                .forceExtensionNameLowerCaseDeserialization(true)
-                .forceIgnoreInvalidExtensionNameDeserialization(this.options.isForceIgnoreInvalidExtensionNameDeserialization())
-                .build()
-        );
+        return variant(this.options.toBuilder().forceExtensionNameLowerCaseDeserialization(true).build());
     }
 
     /**
      * @return a copy of this JsonFormat that deserialize events with ignoring invalid extension name
      */
     public JsonFormat withForceIgnoreInvalidExtensionNameDeserialization() {
-        return new JsonFormat(
-            JsonFormatOptions.builder()
-                .forceDataBase64Serialization(this.options.isForceDataBase64Serialization())
-                .forceStringSerialization(this.options.isForceStringSerialization())
-                .forceExtensionNameLowerCaseDeserialization(this.options.isForceExtensionNameLowerCaseDeserialization())
-                .forceIgnoreInvalidExtensionNameDeserialization(true)
-                .build()
-        );
+        return variant(this.options.toBuilder().forceIgnoreInvalidExtensionNameDeserialization(true).build());
+    }
+
+    private JsonFormat variant(JsonFormatOptions variantOptions) {
+        if (variantOptions.getObjectMapper() == null && variantOptions.getJsonFactory() == null) {
+            return of(variantOptions);
+        }
+        int index = variantIndex(variantOptions);
+        JsonFormat variant = this.variants.get(index);
+        if (variant == null) {
+            // At worst concurrent callers create the same variant twice, and only one is retained
+            new JsonFormat(variantOptions, this.variants);
+            variant = this.variants.get(index);
+        }
+        return variant;
+    }
+
+    private static int variantIndex(JsonFormatOptions options) {
+        return (options.isForceDataBase64Serialization() ? 1 : 0)
+            | (options.isForceStringSerialization() ? 1 << 1 : 0)
+            | (options.isForceExtensionNameLowerCaseDeserialization() ? 1 << 2 : 0)
+            | (options.isForceIgnoreInvalidExtensionNameDeserialization() ? 1 << 3 : 0);
     }
 
     @Override
@@ -152,6 +216,21 @@ public final class JsonFormat implements EventFormat {
         }
     }
 
+    @Override
+    public void serialize(CloudEvent event, OutputStream out) throws EventSerializationException {
+        try (JsonGenerator gen = mapper.getFactory().createGenerator(out)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            sequenceWriter.writeValue(gen, event);
+        } catch (IOException e) {
+            throw new EventSerializationException(e);
+        }
+    }
+
+    @Override
+    public boolean isStreamSerializationSupported() {
+        return true;
+    }
+
     @Override
     public CloudEvent deserialize(byte[] bytes) throws EventDeserializationException {
         try {
@@ -161,24 +240,202 @@ public final class JsonFormat implements EventFormat {
         }
     }
 
+    /**
+     * Deserialize only the context attributes of an event, skipping over {@code data} and {@code data_base64} without decoding them.
+     * <p>
+     * This is useful to route or filter events by their attributes: the data is still tokenized to find its end,
+     * but it's neither decoded nor copied, so it's cheaper than a full deserialization, especially for large or base64 encoded data.
+     * The skipped data is not validated.
+     * <p>
+     * The returned event keeps {@code datacontenttype} and {@code dataschema}, but its data is {@code null}:
+     * serializing it again produces an event without the original payload.
+     * Use {@link #deserialize(byte[])} to read the whole event.
+     *
+     * @param bytes the serialized event
+     * @return the event, without data
+     * @throws EventDeserializationException if something goes wrong during deserialization
+     */
+    public CloudEvent deserializeAttributes(byte[] bytes) throws EventDeserializationException {
+        try {
+            return attributesReader.readValue(bytes);
+        } catch (IOException e) {
+            throw new EventDeserializationException(e);
+        }
+    }
+
     @Override
     public CloudEvent deserialize(byte[] bytes, CloudEventDataMapper<? extends CloudEventData> mapper) throws EventDeserializationException {
-        CloudEvent deserialized = this.deserialize(bytes);
-        if (deserialized.getData() == null) {
-            return deserialized;
+        return mapData(this.deserialize(bytes), mapper);
+    }
+
+    @Override
+    public String serializedContentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public byte[] serializeBatch(Iterable<? extends CloudEvent> events) throws EventSerializationException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serializeBatch(events, out);
+        return out.toByteArray();
+    }
+
+    @Override
+    public void serializeBatch(Iterable<? extends CloudEvent> events, OutputStream out) throws EventSerializationException {
+        try (JsonGenerator gen = mapper.getFactory().createGenerator(out)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            gen.writeStartArray();
+            for (CloudEvent event : events) {
+                sequenceWriter.writeValue(gen, event);
+            }
+            gen.writeEndArray();
+        } catch (IOException e) {
+            throw new EventSerializationException(e);
         }
+    }
+
+    @Override
+    public Iterator<CloudEvent> deserializeBatch(byte[] bytes, CloudEventDataMapper<? extends CloudEventData> mapper) throws EventDeserializationException {
         try {
-            return CloudEventBuilder.from(deserialized)
-                .withData(mapper.map(deserialized.getData()))
-                .build();
-        } catch (CloudEventRWException e) {
+            return deserializeBatch(this.mapper.getFactory().createParser(bytes), mapper);
+        } catch (IOException e) {
             throw new EventDeserializationException(e);
         }
     }
 
     @Override
-    public String serializedContentType() {
-        return CONTENT_TYPE;
+    public Iterator<CloudEvent> deserializeBatch(InputStream in, CloudEventDataMapper<? extends CloudEventData> mapper) throws EventDeserializationException {
+        try {
+            JsonParser parser = this.mapper.getFactory().createParser(in);
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return deserializeBatch(parser, mapper);
+        } catch (IOException e) {
+            throw new EventDeserializationException(e);
+        }
+    }
+
+    private Iterator<CloudEvent> deserializeBatch(JsonParser parser, CloudEventDataMapper<? extends CloudEventData> mapper) throws IOException {
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw MismatchedInputException.from(parser, CloudEvent.class, "Expecting a JSON array of events, found " + parser.currentToken());
+        }
+        return new JsonBatchIterator(this.mapper, parser, mapper);
+    }
+
+    @Override
+    public String serializedBatchContentType() {
+        return BATCH_CONTENT_TYPE;
+    }
+
+    /**
+     * Like {@link #newNdJsonReader(InputStream, CloudEventDataMapper)}, but with the identity {@link CloudEventDataMapper}.
+     */
+    public NdJsonReader newNdJsonReader(InputStream in) throws EventDeserializationException {
+        return newNdJsonReader(in, CloudEventDataMapper.identity());
+    }
+
+    /**
+     * Create a reader of the newline delimited JSON events contained in the provided stream.
+     *
+     * @param in     the stream to read from
+     * @param mapper the mapper to use to map the data of each event
+     * @return the reader
+     * @throws EventDeserializationException if the reader cannot be created
+     */
+    public NdJsonReader newNdJsonReader(InputStream in, CloudEventDataMapper<? extends CloudEventData> mapper) throws EventDeserializationException {
+        try {
+            return new NdJsonReader(this.mapper, this.mapper.getFactory().createParser(in), mapper);
+        } catch (IOException e) {
+            throw new EventDeserializationException(e);
+        }
+    }
+
+    /**
+     * Like {@link #newNdJsonReader(InputStream)}, reading from a channel.
+     */
+    public NdJsonReader newNdJsonReader(ReadableByteChannel channel) throws EventDeserializationException {
+        return newNdJsonReader(Channels.newInputStream(channel));
+    }
+
+    /**
+     * Create a writer of newline delimited JSON events to the provided stream.
+     *
+     * @param out the stream to write to
+     * @return the writer
+     * @throws EventSerializationException if the writer cannot be created
+     */
+    public NdJsonWriter newNdJsonWriter(OutputStream out) throws EventSerializationException {
+        try {
+            return new NdJsonWriter(this.sequenceWriter, this.mapper.getFactory().createGenerator(out));
+        } catch (IOException e) {
+            throw new EventSerializationException(e);
+        }
+    }
+
+    /**
+     * Like {@link #newNdJsonWriter(OutputStream)}, writing to a channel.
+     */
+    public NdJsonWriter newNdJsonWriter(WritableByteChannel channel) throws EventSerializationException {
+        return newNdJsonWriter(Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Like {@link #deserializeNdJson(byte[], boolean, CloudEventDataMapper)}, but with the identity {@link CloudEventDataMapper}.
+     */
+    public Stream<CloudEvent> deserializeNdJson(byte[] chunk, boolean parallel) {
+        return deserializeNdJson(chunk, parallel, CloudEventDataMapper.identity());
+    }
+
+    /**
+     * Deserialize a chunk of newline delimited JSON events.
+     * <p>
+     * The lines are decoded in place, without copying them, and blank lines are skipped.
+     * When {@code parallel} is true the lines are decoded in parallel, while the returned stream keeps their order.
+     * The stream throws {@link EventDeserializationException} if a line is not a valid event.
+     *
+     * @param chunk    the chunk, containing only whole lines
+     * @param parallel true to decode the lines in parallel
+     * @param mapper   the mapper to use to map the data of each event, invoked concurrently when {@code parallel} is true
+     * @return the stream of the deserialized events
+     */
+    public Stream<CloudEvent> deserializeNdJson(byte[] chunk, boolean parallel, CloudEventDataMapper<? extends CloudEventData> mapper) {
+        int[] bounds = lineBounds(chunk);
+        Stream<CloudEvent> events = IntStream.range(0, bounds.length / 2)
+            .mapToObj(i -> {
+                CloudEvent event;
+                try {
+                    event = this.mapper.readValue(chunk, bounds[2 * i], bounds[2 * i + 1] - bounds[2 * i], CloudEvent.class);
+                } catch (IOException e) {
+                    throw new EventDeserializationException(e);
+                }
+                return mapData(event, mapper);
+            });
+        return parallel ? events.parallel() : events;
+    }
+
+    /**
+     * @return the start and end offsets of the non blank lines of the chunk, flattened in a single array
+     */
+    private static int[] lineBounds(byte[] chunk) {
+        int[] bounds = new int[16];
+        int n = 0;
+        int start = 0;
+        while (start < chunk.length) {
+            int end = start;
+            boolean blank = true;
+            while (end < chunk.length && chunk[end] != '\n') {
+                blank &= chunk[end] == ' ' || chunk[end] == '\t' || chunk[end] == '\r';
+                end++;
+            }
+            if (!blank) {
+                if (n + 2 > bounds.length) {
+                    bounds = Arrays.copyOf(bounds, bounds.length * 2);
+                }
+                bounds[n++] = start;
+                bounds[n++] = end;
+            }
+            start = end + 1;
+        }
+        return Arrays.copyOf(bounds, n);
     }
 
     /**
@@ -217,8 +474,21 @@ public final class JsonFormat implements EventFormat {
         return ceModule;
     }
 
+    static CloudEvent mapData(CloudEvent deserialized, CloudEventDataMapper<? extends CloudEventData> mapper) throws EventDeserializationException {
+        if (deserialized.getData() == null) {
+            return deserialized;
+        }
+        try {
+            return CloudEventBuilder.from(deserialized)
+                .withData(mapper.map(deserialized.getData()))
+                .build();
+        } catch (CloudEventRWException e) {
+            throw new EventDeserializationException(e);
+        }
+    }
+
     static boolean dataIsJsonContentType(String contentType) {
         // If content type, spec states that we should assume is json
-        return contentType == null || JSON_CONTENT_TYPE_PATTERN.matcher(contentType).matches();
+        return contentType == null || DataContentType.of(contentType).isJson();
     }
 }
@@ -16,35 +16,60 @@
  */
 package io.cloudevents.jackson;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.cloudevents.lang.Nullable;
+
+import java.util.Objects;
+
 public final class JsonFormatOptions {
     private final boolean forceDataBase64Serialization;
     private final boolean forceStringSerialization;
     private final boolean forceExtensionNameLowerCaseDeserialization;
     private final boolean forceIgnoreInvalidExtensionNameDeserialization;
+    private final ObjectMapper objectMapper;
+    private final JsonFactory jsonFactory;
 
     /**
      * Create a new instance of this class options the serialization / deserialization.
      */
     public JsonFormatOptions() {
-        this(false, false, false, false);
+        this(false, false, false, false, null, null);
     }
 
     JsonFormatOptions(
         boolean forceDataBase64Serialization,
         boolean forceStringSerialization,
         boolean forceExtensionNameLowerCaseDeserialization,
-        boolean forceIgnoreInvalidExtensionNameDeserialization
+        boolean forceIgnoreInvalidExtensionNameDeserialization,
+        ObjectMapper objectMapper,
+        JsonFactory jsonFactory
     ) {
         this.forceDataBase64Serialization = forceDataBase64Serialization;
         this.forceStringSerialization = forceStringSerialization;
         this.forceExtensionNameLowerCaseDeserialization = forceExtensionNameLowerCaseDeserialization;
         this.forceIgnoreInvalidExtensionNameDeserialization = forceIgnoreInvalidExtensionNameDeserialization;
+        this.objectMapper = objectMapper;
+        this.jsonFactory = jsonFactory;
     }
 
     public static JsonFormatOptionsBuilder builder() {
         return new JsonFormatOptionsBuilder();
     }
 
+    /**
+     * @return a builder initialized with these options
+     */
+    public JsonFormatOptionsBuilder toBuilder() {
+        return new JsonFormatOptionsBuilder()
+            .forceDataBase64Serialization(this.forceDataBase64Serialization)
+            .forceStringSerialization(this.forceStringSerialization)
+            .forceExtensionNameLowerCaseDeserialization(this.forceExtensionNameLowerCaseDeserialization)
+            .forceIgnoreInvalidExtensionNameDeserialization(this.forceIgnoreInvalidExtensionNameDeserialization)
+            .objectMapper(this.objectMapper)
+            .jsonFactory(this.jsonFactory);
+    }
+
     public boolean isForceDataBase64Serialization() {
         return this.forceDataBase64Serialization;
     }
@@ -61,11 +86,54 @@ public final class JsonFormatOptions {
         return this.forceIgnoreInvalidExtensionNameDeserialization;
     }
 
+    /**
+     * @return the mapper to configure the {@link JsonFormat} from, or null to use a default one
+     */
+    @Nullable
+    public ObjectMapper getObjectMapper() {
+        return this.objectMapper;
+    }
+
+    /**
+     * @return the factory of the parsers and generators used by the {@link JsonFormat}, or null to use the factory of the mapper
+     */
+    @Nullable
+    public JsonFactory getJsonFactory() {
+        return this.jsonFactory;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        JsonFormatOptions that = (JsonFormatOptions) o;
+        return forceDataBase64Serialization == that.forceDataBase64Serialization &&
+            forceStringSerialization == that.forceStringSerialization &&
+            forceExtensionNameLowerCaseDeserialization == that.forceExtensionNameLowerCaseDeserialization &&
+            forceIgnoreInvalidExtensionNameDeserialization == that.forceIgnoreInvalidExtensionNameDeserialization &&
+            objectMapper == that.objectMapper &&
+            jsonFactory == that.jsonFactory;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            forceDataBase64Serialization,
+            forceStringSerialization,
+            forceExtensionNameLowerCaseDeserialization,
+            forceIgnoreInvalidExtensionNameDeserialization,
+            System.identityHashCode(objectMapper),
+            System.identityHashCode(jsonFactory)
+        );
+    }
+
     public static class JsonFormatOptionsBuilder {
         private boolean forceDataBase64Serialization = false;
         private boolean forceStringSerialization = false;
         private boolean forceExtensionNameLowerCaseDeserialization = false;
         private boolean forceIgnoreInvalidExtensionNameDeserialization = false;
+        private ObjectMapper objectMapper = null;
+        private JsonFactory jsonFactory = null;
 
         public JsonFormatOptionsBuilder forceDataBase64Serialization(boolean forceDataBase64Serialization) {
             this.forceDataBase64Serialization = forceDataBase64Serialization;
@@ -87,12 +155,46 @@ public final class JsonFormatOptions {
             return this;
         }
 
+        /**
+         * Configure the {@link JsonFormat} from the provided mapper, for example to reuse its modules and features.
+         * The format works on a copy of the mapper, so the provided instance is not modified.
+         *
+         * @param objectMapper the mapper, or null to use a default one
+         * @return this builder
+         */
+        public JsonFormatOptionsBuilder objectMapper(@Nullable ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+            return this;
+        }
+
+        /**
+         * Use the provided factory to create the parsers and generators of the {@link JsonFormat},
+         * for example to customize their features or buffer recycling.
+         * The format works on a copy of the factory. To use a factory together with a mapper, configure the mapper with it instead.
+         *
+         * @param jsonFactory the factory, or null to use the factory of the mapper
+         * @return this builder
+         */
+        public JsonFormatOptionsBuilder jsonFactory(@Nullable JsonFactory jsonFactory) {
+            this.jsonFactory = jsonFactory;
+            return this;
+        }
+
+        /**
+         * @return the options
+         * @throws IllegalStateException if both a mapper and a factory are configured
+         */
         public JsonFormatOptions build() {
+            if (this.objectMapper != null && this.jsonFactory != null) {
+                throw new IllegalStateException("Cannot configure both an ObjectMapper and a JsonFactory, configure the ObjectMapper with the JsonFactory instead");
+            }
             return new JsonFormatOptions(
                 this.forceDataBase64Serialization,
                 this.forceStringSerialization,
                 this.forceExtensionNameLowerCaseDeserialization,
-                this.forceIgnoreInvalidExtensionNameDeserialization
+                this.forceIgnoreInvalidExtensionNameDeserialization,
+                this.objectMapper,
+                this.jsonFactory
             );
         }
     }
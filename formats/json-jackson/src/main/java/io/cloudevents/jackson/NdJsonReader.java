@@ -0,0 +1,106 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.core.format.EventDeserializationException;
+import io.cloudevents.rw.CloudEventDataMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reader of a stream of <a href="http://ndjson.org/">newline delimited JSON</a> events.
+ * <p>
+ * All the events are decoded by the same {@link JsonParser}, and the next event is read from the underlying stream
+ * only when it's requested through {@link #hasNext()} or {@link #next()}, so the pace of the consumer drives the reads.
+ * The methods of this iterator throw {@link EventDeserializationException} if something goes wrong while decoding the next event:
+ * since the position of the parser is then unknown, the reader fails permanently, throwing the same exception from then on.
+ * <p>
+ * Instances of this class are not thread safe. Closing the reader closes the underlying stream.
+ *
+ * @see JsonFormat#newNdJsonReader(java.io.InputStream)
+ */
+public final class NdJsonReader implements Iterator<CloudEvent>, Closeable {
+
+    private final ObjectMapper mapper;
+    private final JsonParser parser;
+    private final CloudEventDataMapper<? extends CloudEventData> dataMapper;
+    private JsonToken next;
+    private EventDeserializationException failure;
+
+    NdJsonReader(ObjectMapper mapper, JsonParser parser, CloudEventDataMapper<? extends CloudEventData> dataMapper) {
+        this.mapper = mapper;
+        this.parser = parser;
+        this.dataMapper = dataMapper;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (failure != null) {
+            throw failure;
+        }
+        if (next == null) {
+            try {
+                next = parser.nextToken();
+                if (next == null) {
+                    return false;
+                }
+                if (next != JsonToken.START_OBJECT) {
+                    throw MismatchedInputException.from(parser, CloudEvent.class, "Expecting a JSON object, found " + next);
+                }
+            } catch (IOException e) {
+                throw fail(e);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public CloudEvent next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        CloudEvent event;
+        try {
+            event = mapper.readValue(parser, CloudEvent.class);
+        } catch (IOException e) {
+            throw fail(e);
+        }
+        next = null;
+        return JsonFormat.mapData(event, dataMapper);
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    private EventDeserializationException fail(IOException cause) {
+        next = null;
+        failure = new EventDeserializationException(cause);
+        return failure;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.format.EventSerializationException;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+
+/**
+ * Writer of a stream of <a href="http://ndjson.org/">newline delimited JSON</a> events.
+ * <p>
+ * All the events are encoded by the same {@link JsonGenerator}, each one followed by a new line.
+ * The events are buffered by the generator, and they are passed to the underlying stream when its buffer is full,
+ * when {@link #flush()} is invoked, or when the writer is closed.
+ * <p>
+ * Instances of this class are not thread safe. Closing the writer closes the underlying stream.
+ *
+ * @see JsonFormat#newNdJsonWriter(java.io.OutputStream)
+ */
+public final class NdJsonWriter implements Closeable, Flushable {
+
+    private final ObjectWriter writer;
+    private final JsonGenerator gen;
+
+    NdJsonWriter(ObjectWriter writer, JsonGenerator gen) {
+        this.writer = writer;
+        this.gen = gen;
+        // The events are separated by the new lines written after each of them
+        this.gen.setRootValueSeparator(null);
+    }
+
+    /**
+     * Write the provided event, followed by a new line.
+     *
+     * @param event the event to write
+     * @return self
+     * @throws EventSerializationException if something goes wrong during serialization.
+     */
+    public NdJsonWriter write(CloudEvent event) throws EventSerializationException {
+        try {
+            writer.writeValue(gen, event);
+            gen.writeRaw('\n');
+        } catch (IOException e) {
+            throw new EventSerializationException(e);
+        }
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        gen.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        gen.close();
+    }
+}
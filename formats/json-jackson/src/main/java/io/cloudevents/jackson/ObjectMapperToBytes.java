@@ -0,0 +1,78 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package io.cloudevents.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.cloudevents.core.data.PojoCloudEventData;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * {@link PojoCloudEventData.ToBytes} implementation serializing the POJO with a Jackson {@link ObjectMapper}.
+ * <p>
+ * When the data of an event is a {@link PojoCloudEventData} wrapped with this converter and the event is serialized with {@link JsonFormat},
+ * the POJO is written straight into the JSON event, without serializing it to a byte array first:
+ *
+ * <pre>{@code
+ * PojoCloudEventData<MyPojo> data = PojoCloudEventData.wrap(pojo, ObjectMapperToBytes.of(objectMapper));
+ * }</pre>
+ *
+ * @param <T> the type of the POJO
+ */
+public final class ObjectMapperToBytes<T> implements PojoCloudEventData.ToBytes<T> {
+
+    private final ObjectWriter writer;
+
+    private ObjectMapperToBytes(ObjectMapper mapper) {
+        Objects.requireNonNull(mapper);
+        // The event serializer flushes the generator when the event is complete
+        this.writer = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public byte[] convert(T data) throws Exception {
+        return writer.writeValueAsBytes(data);
+    }
+
+    /**
+     * Write the POJO as the current value of the provided generator.
+     * <p>
+     * The POJO is converted to tokens with the configuration of the mapper, then the tokens are copied to the generator,
+     * so the generator settings of the mapper, like {@link SerializationFeature#INDENT_OUTPUT}, don't leak into the event.
+     */
+    void writeValue(JsonGenerator gen, Object data) throws IOException {
+        TokenBuffer buffer = new TokenBuffer(gen.getCodec(), false);
+        writer.writeValue(buffer, data);
+        buffer.serialize(gen);
+    }
+
+    /**
+     * @param mapper the mapper to use to serialize the POJO
+     * @param <T>    the type of the POJO
+     * @return a converter serializing the POJO with the provided mapper
+     */
+    public static <T> ObjectMapperToBytes<T> of(ObjectMapper mapper) {
+        return new ObjectMapperToBytes<>(mapper);
+    }
+}
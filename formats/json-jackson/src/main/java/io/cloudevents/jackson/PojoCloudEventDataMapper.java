@@ -20,24 +20,25 @@ public class PojoCloudEventDataMapper<T> implements CloudEventDataMapper<PojoClo
 
     private final ObjectMapper mapper;
     private final JavaType target;
+    private final ObjectMapperToBytes<T> toBytes;
 
     private PojoCloudEventDataMapper(ObjectMapper mapper, JavaType target) {
         this.mapper = mapper;
         this.target = target;
+        this.toBytes = ObjectMapperToBytes.of(mapper);
     }
 
     @Override
     public PojoCloudEventData<T> map(CloudEventData data) throws CloudEventRWException {
         // Best case, event is already from json
         if (data instanceof JsonCloudEventData) {
-            JsonNode node = ((JsonCloudEventData) data).getNode();
             T value;
             try {
-                value = this.mapper.convertValue(node, target);
+                value = ((JsonCloudEventData) data).readValue(this.mapper, target);
             } catch (Exception e) {
                 throw CloudEventRWException.newDataConversion(e, JsonNode.class.toString(), target.getTypeName());
             }
-            return PojoCloudEventData.wrap(value, mapper::writeValueAsBytes);
+            return PojoCloudEventData.wrap(value, this.toBytes);
         }
 
         // Worst case, deserialize from bytes
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * {@link SerializableString} over a range of an UTF-8 encoded byte array, holding an already encoded JSON value.
+ * <p>
+ * Writing it with {@link com.fasterxml.jackson.core.JsonGenerator#writeRawValue(SerializableString)} copies the bytes
+ * as they are in the output buffer of byte based generators, without decoding them to characters.
+ */
+final class RawJsonValue implements SerializableString {
+
+    /**
+     * Size of the slices used to write a range of a larger buffer. Byte based generators copy a slice in their output buffer
+     * when it fits in the remaining space, otherwise they ask for a copy of it, so smaller slices bound that copy.
+     */
+    private static final int SLICE_SIZE = 512;
+
+    private final byte[] buffer;
+    private final int offset;
+    private final int length;
+    private String value;
+
+    RawJsonValue(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Write the provided UTF-8 encoded JSON value as the current value of the generator, without decoding it.
+     * <p>
+     * A whole buffer is handed to the generator as it is. A range of a larger buffer is written in slices to byte based generators,
+     * in order to avoid copying the whole range when it doesn't fit in the generator output buffer.
+     * Other generators get the whole range, because they need to decode it to characters.
+     *
+     * @param gen    the generator
+     * @param buffer the buffer containing the value
+     * @param offset the offset of the value
+     * @param length the length of the value
+     * @throws IOException if the generator fails to write
+     */
+    static void writeRawValue(JsonGenerator gen, byte[] buffer, int offset, int length) throws IOException {
+        if ((offset == 0 && length == buffer.length) || length <= SLICE_SIZE || !(gen instanceof UTF8JsonGenerator)) {
+            gen.writeRawValue(new RawJsonValue(buffer, offset, length));
+            return;
+        }
+        int end = offset + length;
+        gen.writeRawValue(new RawJsonValue(buffer, offset, SLICE_SIZE));
+        for (int i = offset + SLICE_SIZE; i < end; i += SLICE_SIZE) {
+            gen.writeRaw(new RawJsonValue(buffer, i, Math.min(SLICE_SIZE, end - i)));
+        }
+    }
+
+    @Override
+    public String getValue() {
+        if (value == null) {
+            value = new String(buffer, offset, length, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    @Override
+    public int charLength() {
+        return getValue().length();
+    }
+
+    @Override
+    public byte[] asUnquotedUTF8() {
+        if (offset == 0 && length == buffer.length) {
+            return buffer;
+        }
+        return Arrays.copyOfRange(buffer, offset, offset + length);
+    }
+
+    @Override
+    public int appendUnquotedUTF8(byte[] out, int outOffset) {
+        if (outOffset + length > out.length) {
+            return -1;
+        }
+        System.arraycopy(buffer, offset, out, outOffset, length);
+        return length;
+    }
+
+    @Override
+    public int appendUnquoted(char[] out, int outOffset) {
+        String str = getValue();
+        if (outOffset + str.length() > out.length) {
+            return -1;
+        }
+        str.getChars(0, str.length(), out, outOffset);
+        return str.length();
+    }
+
+    @Override
+    public int writeUnquotedUTF8(OutputStream out) throws IOException {
+        out.write(buffer, offset, length);
+        return length;
+    }
+
+    @Override
+    public int putUnquotedUTF8(ByteBuffer out) {
+        if (length > out.remaining()) {
+            return -1;
+        }
+        out.put(buffer, offset, length);
+        return length;
+    }
+
+    // The quoted variants are never used to write a raw value, delegate them to the Jackson implementation
+
+    @Override
+    public char[] asQuotedChars() {
+        return quoted().asQuotedChars();
+    }
+
+    @Override
+    public byte[] asQuotedUTF8() {
+        return quoted().asQuotedUTF8();
+    }
+
+    @Override
+    public int appendQuotedUTF8(byte[] out, int outOffset) {
+        return quoted().appendQuotedUTF8(out, outOffset);
+    }
+
+    @Override
+    public int appendQuoted(char[] out, int outOffset) {
+        return quoted().appendQuoted(out, outOffset);
+    }
+
+    @Override
+    public int writeQuotedUTF8(OutputStream out) throws IOException {
+        return quoted().writeQuotedUTF8(out);
+    }
+
+    @Override
+    public int putQuotedUTF8(ByteBuffer out) throws IOException {
+        return quoted().putQuotedUTF8(out);
+    }
+
+    private SerializedString quoted() {
+        return new SerializedString(getValue());
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+}
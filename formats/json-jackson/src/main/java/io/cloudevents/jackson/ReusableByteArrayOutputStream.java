@@ -0,0 +1,82 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package io.cloudevents.jackson;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Growable in memory {@link OutputStream}, reused by each thread to decode binary values
+ * without allocating intermediate buffers for every event.
+ */
+final class ReusableByteArrayOutputStream extends OutputStream {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    // Buffers grown above this size are dropped after use, so a single big payload doesn't pin its memory
+    private static final int MAX_RETAINED_CAPACITY = 1 << 20;
+
+    private static final ThreadLocal<ReusableByteArrayOutputStream> CURRENT =
+        ThreadLocal.withInitial(ReusableByteArrayOutputStream::new);
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int count;
+
+    private ReusableByteArrayOutputStream() {
+    }
+
+    /**
+     * @return the empty stream of the current thread
+     */
+    static ReusableByteArrayOutputStream get() {
+        ReusableByteArrayOutputStream stream = CURRENT.get();
+        stream.count = 0;
+        return stream;
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(count + 1);
+        buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        ensureCapacity(count + len);
+        System.arraycopy(b, off, buffer, count, len);
+        count += len;
+    }
+
+    /**
+     * @return a copy of the written bytes
+     */
+    byte[] toByteArray() {
+        byte[] result = Arrays.copyOf(buffer, count);
+        if (buffer.length > MAX_RETAINED_CAPACITY) {
+            buffer = new byte[INITIAL_CAPACITY];
+        }
+        count = 0;
+        return result;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length << 1));
+        }
+    }
+}
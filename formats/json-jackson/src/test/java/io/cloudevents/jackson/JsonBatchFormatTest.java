@@ -0,0 +1,129 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.jackson;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.format.BatchEventFormat;
+import io.cloudevents.core.format.ContentType;
+import io.cloudevents.core.format.EventDeserializationException;
+import io.cloudevents.core.mock.MyCloudEventData;
+import io.cloudevents.core.provider.EventFormatProvider;
+import io.cloudevents.core.test.Data;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static io.cloudevents.core.test.Data.*;
+import static org.assertj.core.api.Assertions.*;
+
+class JsonBatchFormatTest {
+
+    private final JsonFormat format = new JsonFormat();
+
+    @Test
+    void resolveBatchFormat() {
+        assertThat(EventFormatProvider.getInstance().resolveBatchFormat(JsonFormat.BATCH_CONTENT_TYPE))
+            .isInstanceOf(JsonFormat.class);
+        assertThat(EventFormatProvider.getInstance().resolveBatchFormat(ContentType.JSON_BATCH))
+            .isInstanceOf(JsonFormat.class);
+        assertThat(EventFormatProvider.getInstance().resolveBatchFormat(JsonFormat.BATCH_CONTENT_TYPE + "; charset=utf-8"))
+            .isInstanceOf(JsonFormat.class);
+        assertThat(EventFormatProvider.getInstance().resolveFormat(JsonFormat.BATCH_CONTENT_TYPE))
+            .isNull();
+    }
+
+    @Test
+    void batchRoundTrip() {
+        List<CloudEvent> events = Data.allEvents().collect(Collectors.toList());
+
+        byte[] serialized = format.serializeBatch(events);
+
+        assertThat(toList(format.deserializeBatch(serialized)))
+            .isEqualTo(events.stream().map(this::singleRoundTrip).collect(Collectors.toList()));
+    }
+
+    @Test
+    void batchStreamRoundTrip() {
+        List<CloudEvent> events = Data.allEvents().collect(Collectors.toList());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        format.serializeBatch(events, out);
+
+        assertThat(toList(format.deserializeBatch(new ByteArrayInputStream(out.toByteArray()))))
+            .isEqualTo(events.stream().map(this::singleRoundTrip).collect(Collectors.toList()));
+    }
+
+    @Test
+    void emptyBatch() {
+        assertThat(format.serializeBatch(new ArrayList<>()))
+            .isEqualTo("[]".getBytes(StandardCharsets.UTF_8));
+        assertThat(format.deserializeBatch("[ ]".getBytes(StandardCharsets.UTF_8)))
+            .isExhausted();
+    }
+
+    @Test
+    void batchWithDataMapper() {
+        byte[] serialized = format.serializeBatch(Arrays.asList(V1_WITH_JSON_DATA, V1_MIN));
+
+        List<CloudEvent> events = toList(format.deserializeBatch(serialized, data -> new MyCloudEventData(data.toBytes().length)));
+
+        assertThat(events.get(0).getData())
+            .isEqualTo(new MyCloudEventData(DATA_JSON_SERIALIZED.length));
+        assertThat(events.get(1).getData())
+            .isNull();
+    }
+
+    @Test
+    void batchIsDecodedIncrementally() {
+        byte[] serialized = ("[" + new String(format.serialize(V1_MIN), StandardCharsets.UTF_8) + ", {\"specversion\": \"1.0\"}]")
+            .getBytes(StandardCharsets.UTF_8);
+
+        Iterator<CloudEvent> iterator = format.deserializeBatch(serialized);
+
+        assertThat(iterator.next())
+            .isEqualTo(V1_MIN);
+        assertThatThrownBy(iterator::next)
+            .isInstanceOf(EventDeserializationException.class);
+    }
+
+    @Test
+    void throwOnInvalidBatch() {
+        BatchEventFormat batchFormat = format;
+        assertThatThrownBy(() -> batchFormat.deserializeBatch(format.serialize(V1_MIN)))
+            .isInstanceOf(EventDeserializationException.class);
+        assertThatThrownBy(() -> toList(batchFormat.deserializeBatch("[{}".getBytes(StandardCharsets.UTF_8))))
+            .isInstanceOf(EventDeserializationException.class);
+    }
+
+    private CloudEvent singleRoundTrip(CloudEvent event) {
+        return format.deserialize(format.serialize(event));
+    }
+
+    private static List<CloudEvent> toList(Iterator<CloudEvent> iterator) {
+        List<CloudEvent> list = new ArrayList<>();
+        iterator.forEachRemaining(list::add);
+        return list;
+    }
+}
@@ -17,16 +17,23 @@
 
 package io.cloudevents.jackson;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import io.cloudevents.CloudEvent;
 import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.format.EventFormat;
 import io.cloudevents.core.mock.MyCloudEventData;
 import io.cloudevents.core.provider.EventFormatProvider;
 import io.cloudevents.core.test.Data;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -60,6 +67,87 @@ public class JsonCloudEventDataTest {
             .isEqualTo(10);
     }
 
+    @Test
+    public void testRawDataIsWrittenBackUntouched() throws IOException {
+        String data = "{ \"b\" : 1.00000000000000000000001,\n  \"a\": [1, 2] }";
+        String json = "{\"specversion\":\"1.0\",\"id\":\"1\",\"type\":\"mock.test\",\"source\":\"http://localhost/source\"," +
+            "\"data\":" + data + ",\"datacontenttype\":\"application/json\"}";
+        EventFormat format = EventFormatProvider.getInstance().resolveFormat(JsonFormat.CONTENT_TYPE);
+
+        CloudEvent deserialized = format.deserialize(json.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(deserialized.getData())
+            .isInstanceOf(JsonCloudEventData.class);
+        assertThat(deserialized.getData().toBytes())
+            .isEqualTo(data.getBytes(StandardCharsets.UTF_8));
+        assertThat(new String(format.serialize(deserialized), StandardCharsets.UTF_8))
+            .contains("\"data\":" + data);
+        assertThat(((JsonCloudEventData) deserialized.getData()).getNode())
+            .isEqualTo(new ObjectMapper().readTree(data));
+    }
+
+    @Test
+    public void testRawDataFromBufferSlice() throws IOException {
+        ObjectMapper mapper = new ObjectMapper()
+            .registerModule(JsonFormat.getCloudEventJacksonModule());
+        byte[] input = ("xx{\"specversion\":\"1.0\",\"id\":\"1\",\"type\":\"mock.test\",\"source\":\"http://localhost/source\"," +
+            "\"data\":[1,2,3]}yy").getBytes(StandardCharsets.UTF_8);
+
+        CloudEvent deserialized = mapper.readValue(input, 2, input.length - 4, CloudEvent.class);
+
+        assertThat(deserialized.getData().toBytes())
+            .isEqualTo("[1,2,3]".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testRawDataIsCopiedFromInput() {
+        byte[] input = ("{\"specversion\":\"1.0\",\"id\":\"1\",\"type\":\"mock.test\",\"source\":\"http://localhost/source\"," +
+            "\"data\":[1,2,3]}").getBytes(StandardCharsets.UTF_8);
+        EventFormat format = EventFormatProvider.getInstance().resolveFormat(JsonFormat.CONTENT_TYPE);
+
+        CloudEvent deserialized = format.deserialize(input);
+        // The caller reuses its buffer
+        Arrays.fill(input, (byte) ' ');
+
+        assertThat(deserialized.getData().toBytes())
+            .isEqualTo("[1,2,3]".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testRawDataIsParsedWithFormatMapper() {
+        byte[] input = ("{\"specversion\":\"1.0\",\"id\":\"1\",\"type\":\"mock.test\",\"source\":\"http://localhost/source\"," +
+            "\"data\":{\"a\":1.5}}").getBytes(StandardCharsets.UTF_8);
+        JsonFormat format = JsonFormat.of(JsonFormatOptions.builder()
+            .objectMapper(new ObjectMapper().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS))
+            .build());
+
+        CloudEvent deserialized = format.deserialize(input);
+
+        assertThat(((JsonCloudEventData) deserialized.getData()).getNode().get("a").isBigDecimal())
+            .isTrue();
+    }
+
+    @Test
+    public void testLargeRawDataRoundTrip() throws IOException {
+        StringBuilder data = new StringBuilder("{");
+        for (int i = 0; i < 10000; i++) {
+            data.append(i == 0 ? "" : ",").append("\"k").append(i).append("\":\"h\u00e9llo w\u00f6rld\"");
+        }
+        data.append('}');
+        ObjectMapper mapper = new ObjectMapper()
+            .registerModule(JsonFormat.getCloudEventJacksonModule());
+        byte[] input = ("{\"specversion\":\"1.0\",\"id\":\"1\",\"type\":\"mock.test\",\"source\":\"http://localhost/source\"," +
+            "\"data\":" + data + "}").getBytes(StandardCharsets.UTF_8);
+
+        CloudEvent deserialized = mapper.readValue(input, CloudEvent.class);
+
+        // Both the byte and the char based generators must write the same value
+        assertThat(mapper.readTree(mapper.writeValueAsBytes(deserialized)))
+            .isEqualTo(mapper.readTree(input));
+        assertThat(mapper.readTree(mapper.writeValueAsString(deserialized)))
+            .isEqualTo(mapper.readTree(input));
+    }
+
     public static Stream<Arguments> textContentArguments() {
         return Stream.of(
             Arguments.of("application/json"),
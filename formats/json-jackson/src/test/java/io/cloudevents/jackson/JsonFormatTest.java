@@ -17,15 +17,23 @@
 
 package io.cloudevents.jackson;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.json.JsonWriteFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import io.cloudevents.CloudEvent;
 import io.cloudevents.SpecVersion;
 import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.data.ByteBufferCloudEventData;
+import io.cloudevents.core.data.StreamCloudEventData;
 import io.cloudevents.core.format.ContentType;
 import io.cloudevents.core.format.EventDeserializationException;
+import io.cloudevents.core.format.EventSerializationException;
 import io.cloudevents.core.provider.EventFormatProvider;
 import io.cloudevents.rw.CloudEventRWException;
 import org.junit.jupiter.api.Test;
@@ -33,12 +41,20 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static io.cloudevents.core.format.ContentType.*;
@@ -147,6 +163,114 @@ class JsonFormatTest {
         assertThat(output).isEqualTo(normalizeToJsonValueIfNeeded(input));
     }
 
+    @ParameterizedTest
+    @MethodSource("io.cloudevents.core.test.Data#allEvents")
+    void serializeToOutputStream(CloudEvent input) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        getFormat().serialize(input, out);
+        getFormat().serialize(input, out);
+
+        byte[] serialized = getFormat().serialize(input);
+        byte[] twice = new byte[serialized.length * 2];
+        System.arraycopy(serialized, 0, twice, 0, serialized.length);
+        System.arraycopy(serialized, 0, twice, serialized.length, serialized.length);
+        assertThat(out.toByteArray()).isEqualTo(twice);
+    }
+
+    @Test
+    void serializeLargeJsonData() throws IOException {
+        StringBuilder data = new StringBuilder("[");
+        for (int i = 0; i < 10000; i++) {
+            data.append(i == 0 ? "" : ",").append("\"h\u00e9llo w\u00f6rld ").append(i).append('"');
+        }
+        data.append(']');
+        CloudEvent input = CloudEventBuilder.v1(V1_MIN)
+            .withData("application/json", data.toString().getBytes(StandardCharsets.UTF_8))
+            .build();
+
+        byte[] serialized = getFormat().serialize(input);
+
+        assertThat(mapper.readTree(serialized).get("data"))
+            .isEqualTo(mapper.readTree(data.toString()));
+        assertThat(getFormat().deserialize(serialized).getData().toBytes())
+            .isEqualTo(input.getData().toBytes());
+    }
+
+    @ParameterizedTest
+    @MethodSource("io.cloudevents.core.test.Data#allEvents")
+    void deserializeAttributesOnly(CloudEvent input) {
+        JsonFormat format = getFormat();
+        CloudEvent expected = CloudEventBuilder.from(format.deserialize(format.serialize(input))).withoutData().build();
+
+        assertThat(format.deserializeAttributes(format.serialize(input)))
+            .isEqualTo(expected);
+        assertThat(format.withForceJsonDataToBase64().deserializeAttributes(format.withForceJsonDataToBase64().serialize(input)))
+            .isEqualTo(expected);
+    }
+
+    @Test
+    void deserializeAttributesSkipsData() {
+        byte[] event = ("{\"specversion\":\"1.0\",\"data_base64\":\"not base64!\",\"id\":\"1\",\"type\":\"t\",\"source\":\"/s\"}")
+            .getBytes(StandardCharsets.UTF_8);
+
+        assertThat(getFormat().deserializeAttributes(event))
+            .isEqualTo(CloudEventBuilder.v1().withId("1").withType("t").withSource(URI.create("/s")).build());
+        assertThatThrownBy(() -> getFormat().deserialize(event))
+            .isInstanceOf(EventDeserializationException.class);
+        assertThatThrownBy(() -> getFormat().deserializeAttributes(loadFile("v1/fail_missing_id.json")))
+            .isInstanceOf(EventDeserializationException.class);
+        assertThatThrownBy(() -> getFormat().deserializeAttributes(loadFile("v1/fail_data_and_data_base64.json")))
+            .isInstanceOf(EventDeserializationException.class);
+    }
+
+    @Test
+    void binaryDataIsStreamedInBase64() {
+        byte[] bytes = new byte[3 * 1024 * 1024 + 7];
+        new Random(0).nextBytes(bytes);
+        CloudEvent expected = CloudEventBuilder.v1(V1_MIN).withData("application/octet-stream", bytes).build();
+
+        CloudEvent fromSlice = CloudEventBuilder.v1(V1_MIN)
+            .withData("application/octet-stream", ByteBufferCloudEventData.wrap(bytes, 0, bytes.length))
+            .build();
+        CloudEvent fromStream = CloudEventBuilder.v1(V1_MIN)
+            .withData("application/octet-stream", StreamCloudEventData.wrap(new ByteArrayInputStream(bytes), bytes.length))
+            .build();
+        CloudEvent fromStreamWithUnknownLength = CloudEventBuilder.v1(V1_MIN)
+            .withData("application/octet-stream", StreamCloudEventData.wrap(new ByteArrayInputStream(bytes)))
+            .build();
+
+        byte[] serialized = getFormat().serialize(expected);
+        assertThat(getFormat().serialize(fromSlice)).isEqualTo(serialized);
+        assertThat(getFormat().serialize(fromStream)).isEqualTo(serialized);
+        assertThat(getFormat().serialize(fromStreamWithUnknownLength)).isEqualTo(serialized);
+
+        // Decode twice, to go through the reused decoding buffer after a large payload
+        assertThat(getFormat().deserialize(serialized)).isEqualTo(expected);
+        assertThat(getFormat().deserialize(getFormat().serialize(V1_WITH_XML_DATA))).isEqualTo(V1_WITH_XML_DATA);
+    }
+
+    @Test
+    void binaryDataStreamIsClosedAndConsumedOnce() {
+        AtomicBoolean closed = new AtomicBoolean();
+        InputStream input = new ByteArrayInputStream(BINARY_VALUE) {
+            @Override
+            public void close() throws IOException {
+                closed.set(true);
+                super.close();
+            }
+        };
+        CloudEvent event = CloudEventBuilder.v1(V1_MIN)
+            .withData("application/octet-stream", StreamCloudEventData.wrap(input))
+            .build();
+
+        assertThat(getFormat().serialize(event))
+            .isEqualTo(getFormat().serialize(CloudEventBuilder.v1(V1_MIN).withData("application/octet-stream", BINARY_VALUE).build()));
+        assertThat(closed)
+            .isTrue();
+        assertThatThrownBy(() -> getFormat().serialize(event))
+            .isInstanceOf(EventSerializationException.class);
+    }
+
     @Test
     void throwExpectedOnInvalidSpecversion() {
         assertThatCode(() -> getFormat().deserialize(("{\"specversion\":\"9000.1\"}").getBytes(StandardCharsets.UTF_8)))
@@ -154,6 +278,86 @@ class JsonFormatTest {
             .hasMessageContaining(CloudEventRWException.newInvalidSpecVersion("9000.1").getMessage());
     }
 
+    @Test
+    void useProvidedObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        JsonFormat format = new JsonFormat(JsonFormatOptions.builder().objectMapper(objectMapper).build());
+
+        assertThat(new String(format.serialize(V1_MIN), StandardCharsets.UTF_8))
+            .contains("\n");
+        assertThat(format.deserialize(format.serialize(V1_MIN)))
+            .isEqualTo(V1_MIN);
+        assertThat(objectMapper.getRegisteredModuleIds())
+            .isEmpty();
+    }
+
+    @Test
+    void useProvidedJsonFactory() {
+        JsonFactory jsonFactory = JsonFactory.builder().enable(JsonWriteFeature.ESCAPE_NON_ASCII).build();
+        JsonFormat format = new JsonFormat(JsonFormatOptions.builder().jsonFactory(jsonFactory).build());
+        CloudEvent event = CloudEventBuilder.v1(V1_MIN).withExtension("name", "caf\u00e9").build();
+
+        assertThat(new String(format.serialize(event), StandardCharsets.UTF_8))
+            .contains("caf\\u00E9");
+        assertThat(format.deserialize(format.serialize(event)))
+            .isEqualTo(event);
+        assertThatThrownBy(() -> JsonFormatOptions.builder().jsonFactory(jsonFactory).objectMapper(new ObjectMapper()).build())
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void formatInstancesAreShared() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonFormatOptions options = JsonFormatOptions.builder().objectMapper(objectMapper).build();
+
+        assertThat(JsonFormat.of(new JsonFormatOptions()))
+            .isSameAs(JsonFormat.of(new JsonFormatOptions()));
+        assertThat(getFormat().withForceJsonDataToBase64())
+            .isSameAs(getFormat().withForceJsonDataToBase64());
+        assertThat(JsonFormat.of(options))
+            .isNotSameAs(JsonFormat.of(JsonFormatOptions.builder().objectMapper(objectMapper).build()));
+    }
+
+    @Test
+    void customMapperVariantsAreMemoized() {
+        JsonFormat format = new JsonFormat(JsonFormatOptions.builder().objectMapper(new ObjectMapper()).build());
+
+        assertThat(format.withForceJsonDataToBase64())
+            .isSameAs(format.withForceJsonDataToBase64())
+            .isSameAs(format.withForceJsonDataToBase64().withForceJsonDataToBase64())
+            .isNotSameAs(format);
+        assertThat(format.withForceJsonDataToBase64().withForceNonJsonDataToString())
+            .isSameAs(format.withForceNonJsonDataToString().withForceJsonDataToBase64());
+    }
+
+    @Test
+    void jsonFactorySubclassIsUsedWithoutCopy() {
+        CountingJsonFactory factory = new CountingJsonFactory();
+        JsonFormat format = new JsonFormat(JsonFormatOptions.builder().jsonFactory(factory).build());
+
+        byte[] serialized = format.withForceJsonDataToBase64().serialize(V1_WITH_JSON_DATA);
+
+        assertThat(factory.generators)
+            .hasValue(1);
+        assertThat(format.deserialize(serialized))
+            .isEqualTo(V1_WITH_JSON_DATA);
+        assertThat(format.withForceJsonDataToBase64())
+            .isSameAs(format.withForceJsonDataToBase64());
+    }
+
+    /**
+     * A factory subclass not overriding {@link JsonFactory#copy()}, like the ones plugging a custom buffer recycling.
+     */
+    private static class CountingJsonFactory extends JsonFactory {
+        private final AtomicInteger generators = new AtomicInteger();
+
+        @Override
+        public JsonGenerator createGenerator(OutputStream out, JsonEncoding enc) throws IOException {
+            generators.incrementAndGet();
+            return super.createGenerator(out, enc);
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("badJsonContent")
     /**
@@ -270,7 +474,10 @@ class JsonFormatTest {
             Arguments.of("v1/xml_data.json", V1_WITH_XML_DATA),
             Arguments.of("v1/base64_xml_data.json", V1_WITH_XML_DATA),
             Arguments.of("v1/text_data.json", V1_WITH_TEXT_DATA),
-            Arguments.of("v1/base64_text_data.json", V1_WITH_TEXT_DATA)
+            Arguments.of("v1/base64_text_data.json", V1_WITH_TEXT_DATA),
+            Arguments.of("v03/json_data_with_ext_unordered.json", normalizeToJsonValueIfNeeded(V03_WITH_JSON_DATA_WITH_EXT)),
+            Arguments.of("v1/json_data_with_ext_unordered.json", normalizeToJsonValueIfNeeded(V1_WITH_JSON_DATA_WITH_EXT)),
+            Arguments.of("v1/text_data_unordered.json", V1_WITH_TEXT_DATA)
         );
     }
 
@@ -307,7 +514,10 @@ class JsonFormatTest {
             "v03/fail_numeric_decimal.json",
             "v03/fail_numeric_long.json",
             "v1/fail_numeric_decimal.json",
-            "v1/fail_numeric_long.json"
+            "v1/fail_numeric_long.json",
+            "v1/fail_missing_id.json",
+            "v1/fail_text_data_object.json",
+            "v1/fail_data_and_data_base64.json"
         );
     }
 
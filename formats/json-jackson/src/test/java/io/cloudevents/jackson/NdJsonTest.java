@@ -0,0 +1,185 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.jackson;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.format.EventDeserializationException;
+import io.cloudevents.core.mock.MyCloudEventData;
+import io.cloudevents.core.test.Data;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.cloudevents.core.test.Data.*;
+import static org.assertj.core.api.Assertions.*;
+
+class NdJsonTest {
+
+    private final JsonFormat format = new JsonFormat();
+
+    @Test
+    void streamRoundTrip() throws IOException {
+        List<CloudEvent> events = Data.allEvents().collect(Collectors.toList());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (NdJsonWriter writer = format.newNdJsonWriter(out)) {
+            for (CloudEvent event : events) {
+                writer.write(event);
+            }
+        }
+
+        assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8).split("\n"))
+            .hasSize(events.size());
+        try (NdJsonReader reader = format.newNdJsonReader(new ByteArrayInputStream(out.toByteArray()))) {
+            assertThat(toList(reader))
+                .isEqualTo(singleRoundTrip(events));
+        }
+    }
+
+    @Test
+    void channelRoundTrip() throws IOException {
+        List<CloudEvent> events = Data.allEvents().collect(Collectors.toList());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (NdJsonWriter writer = format.newNdJsonWriter(Channels.newChannel(out))) {
+            for (CloudEvent event : events) {
+                writer.write(event);
+            }
+        }
+
+        try (NdJsonReader reader = format.newNdJsonReader(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())))) {
+            assertThat(toList(reader))
+                .isEqualTo(singleRoundTrip(events));
+        }
+    }
+
+    @Test
+    void readWithDataMapper() throws IOException {
+        byte[] serialized = ndJson(V1_WITH_JSON_DATA, V1_MIN);
+
+        try (NdJsonReader reader = format.newNdJsonReader(new ByteArrayInputStream(serialized), data -> new MyCloudEventData(data.toBytes().length))) {
+            List<CloudEvent> events = toList(reader);
+            assertThat(events.get(0).getData())
+                .isEqualTo(new MyCloudEventData(DATA_JSON_SERIALIZED.length));
+            assertThat(events.get(1).getData())
+                .isNull();
+        }
+    }
+
+    @Test
+    void writerFlushesOnRequest() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        NdJsonWriter writer = format.newNdJsonWriter(out);
+
+        writer.write(V1_MIN).flush();
+
+        assertThat(out.toByteArray())
+            .isEqualTo((new String(format.serialize(V1_MIN), StandardCharsets.UTF_8) + "\n").getBytes(StandardCharsets.UTF_8));
+        writer.close();
+    }
+
+    @Test
+    void chunkDecodeKeepsOrder() {
+        List<CloudEvent> events = IntStream.range(0, 200)
+            .mapToObj(i -> Data.allEvents().collect(Collectors.toList()))
+            .flatMap(List::stream)
+            .collect(Collectors.toList());
+        byte[] chunk = ndJson(events.toArray(new CloudEvent[0]));
+
+        assertThat(format.deserializeNdJson(chunk, true).collect(Collectors.toList()))
+            .isEqualTo(singleRoundTrip(events));
+        assertThat(format.deserializeNdJson(chunk, false).collect(Collectors.toList()))
+            .isEqualTo(singleRoundTrip(events));
+    }
+
+    @Test
+    void chunkDecodeWithMapper() {
+        byte[] chunk = ndJson(V1_WITH_JSON_DATA, V1_MIN);
+
+        List<CloudEvent> events = format.deserializeNdJson(chunk, true, data -> new MyCloudEventData(data.toBytes().length))
+            .collect(Collectors.toList());
+        assertThat(events.get(0).getData())
+            .isEqualTo(new MyCloudEventData(DATA_JSON_SERIALIZED.length));
+        assertThat(events.get(1).getData())
+            .isNull();
+    }
+
+    @Test
+    void chunkDecodeSkipsBlankLines() {
+        String line = new String(format.serialize(V1_MIN), StandardCharsets.UTF_8);
+        byte[] chunk = ("\n" + line + "\r\n  \n\n" + line).getBytes(StandardCharsets.UTF_8);
+
+        assertThat(format.deserializeNdJson(chunk, false))
+            .containsExactly(V1_MIN, V1_MIN);
+        assertThat(format.deserializeNdJson(new byte[0], false))
+            .isEmpty();
+    }
+
+    @Test
+    void throwOnInvalidLine() {
+        byte[] chunk = (new String(format.serialize(V1_MIN), StandardCharsets.UTF_8) + "\n{\"specversion\": \"1.0\"}\n")
+            .getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> format.deserializeNdJson(chunk, true).collect(Collectors.toList()))
+            .isInstanceOf(EventDeserializationException.class);
+
+        NdJsonReader reader = format.newNdJsonReader(new ByteArrayInputStream(chunk));
+        assertThat(reader.next())
+            .isEqualTo(V1_MIN);
+        assertThatThrownBy(reader::next)
+            .isInstanceOf(EventDeserializationException.class);
+        assertThatThrownBy(reader::hasNext)
+            .isInstanceOf(EventDeserializationException.class);
+        assertThatThrownBy(reader::next)
+            .isInstanceOf(EventDeserializationException.class);
+        assertThatThrownBy(() -> format.newNdJsonReader(new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8))).hasNext())
+            .isInstanceOf(EventDeserializationException.class);
+    }
+
+    private byte[] ndJson(CloudEvent... events) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (NdJsonWriter writer = format.newNdJsonWriter(out)) {
+            for (CloudEvent event : events) {
+                writer.write(event);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private List<CloudEvent> singleRoundTrip(List<CloudEvent> events) {
+        return events.stream()
+            .map(event -> format.deserialize(format.serialize(event)))
+            .collect(Collectors.toList());
+    }
+
+    private static List<CloudEvent> toList(NdJsonReader reader) {
+        List<CloudEvent> list = new ArrayList<>();
+        reader.forEachRemaining(list::add);
+        return list;
+    }
+}
@@ -3,12 +3,14 @@ package io.cloudevents.jackson;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import io.cloudevents.CloudEvent;
 import io.cloudevents.core.CloudEventUtils;
 import io.cloudevents.core.builder.CloudEventBuilder;
 import io.cloudevents.core.data.PojoCloudEventData;
 import io.cloudevents.core.test.Data;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -60,6 +62,55 @@ public class PojoCloudEventDataMapperTest {
             .isEqualTo(myPojo);
     }
 
+    @ParameterizedTest
+    @MethodSource("getPojoMappers")
+    public void testWithDeserializedJson(PojoCloudEventDataMapper<MyPojo> mapper) {
+        CloudEvent event = CloudEventBuilder.v1(Data.V1_MIN)
+            .withData("application/json", myPojoSerialized.getBytes(StandardCharsets.UTF_8))
+            .build();
+        JsonFormat format = new JsonFormat();
+
+        CloudEvent deserialized = format.deserialize(format.serialize(event), mapper);
+
+        assertThat(deserialized.getData())
+            .isInstanceOf(PojoCloudEventData.class)
+            .extracting(data -> ((PojoCloudEventData<?>) data).getValue())
+            .isEqualTo(myPojo);
+        assertThat(format.deserialize(format.serialize(deserialized)))
+            .isEqualTo(format.deserialize(format.serialize(event)));
+    }
+
+    @Test
+    public void testPojoIsWrittenIntoTheEvent() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        CloudEvent event = CloudEventBuilder.v1(Data.V1_MIN)
+            .withData("application/json", PojoCloudEventData.wrap(myPojo, ObjectMapperToBytes.of(objectMapper)))
+            .build();
+
+        JsonNode serialized = objectMapper.readTree(new JsonFormat().serialize(event));
+        assertThat(serialized.get("data"))
+            .isEqualTo(myPojoJson);
+
+        JsonNode base64 = objectMapper.readTree(new JsonFormat().withForceJsonDataToBase64().serialize(event));
+        assertThat(base64.get("data_base64").binaryValue())
+            .isEqualTo(myPojoSerialized.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testPojoMapperSettingsDontLeakIntoTheEvent() throws Exception {
+        ObjectMapper indenting = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        CloudEvent pojoEvent = CloudEventBuilder.v1(Data.V1_MIN)
+            .withData("application/json", PojoCloudEventData.wrap(myPojo, ObjectMapperToBytes.of(indenting)))
+            .build();
+        CloudEvent bytesEvent = CloudEventBuilder.v1(Data.V1_MIN)
+            .withData("application/json", myPojoSerialized.getBytes(StandardCharsets.UTF_8))
+            .build();
+
+        assertThat(new String(new JsonFormat().serialize(pojoEvent), StandardCharsets.UTF_8))
+            .isEqualTo(new String(new JsonFormat().serialize(bytesEvent), StandardCharsets.UTF_8))
+            .doesNotContain("\n");
+    }
+
     private static Stream<Arguments> getPojoMappers() {
         final ObjectMapper objectMapper = new ObjectMapper();
         return Stream.of(
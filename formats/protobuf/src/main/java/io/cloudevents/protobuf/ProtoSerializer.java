@@ -190,7 +190,7 @@ class ProtoSerializer {
 
             // TODO - Future Cleanup
             if (value instanceof Integer) {
-                return withContextAttribute(name, (Integer) value);
+                return withContextAttribute(name, value.intValue());
             } else {
                 return withContextAttribute(name, value.toString());
             }
@@ -233,6 +233,17 @@ class ProtoSerializer {
             return this;
         }
 
+        @Override
+        public CloudEventContextWriter withContextAttribute(String name, int value) throws CloudEventRWException {
+
+            // Required attributes are never integers, let setRequiredField reject them
+            if (this.requiredAttributeNumberMap.containsKey(name)) {
+                return withContextAttribute(name, Integer.valueOf(value));
+            }
+            this.protoBuilder.putAttributes(name, CloudEventAttributeValue.newBuilder().setCeInteger(value).build());
+            return this;
+        }
+
         @Override
         public CloudEvent end(CloudEventData data) throws CloudEventRWException {
             if (data != null) {
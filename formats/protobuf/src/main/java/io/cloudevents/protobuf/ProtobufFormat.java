@@ -26,6 +26,9 @@ import io.cloudevents.core.format.EventFormat;
 import io.cloudevents.core.format.EventSerializationException;
 import io.cloudevents.rw.CloudEventDataMapper;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 /**
  * An implemmentation of {@link EventFormat} for <a href="github.com/cloudevents/spec/blob/v1.0.1/protobuf-format">the protobuf format</a>.
  * This format is resolvable with {@link io.cloudevents.core.provider.EventFormatProvider} using the content type {@link #PROTO_CONTENT_TYPE}.
@@ -57,6 +60,20 @@ public class ProtobufFormat implements EventFormat {
         }
     }
 
+    @Override
+    public void serialize(CloudEvent event, OutputStream out) throws EventSerializationException {
+        try {
+            ProtoSerializer.toProto(event).writeTo(out);
+        } catch (IOException e) {
+            throw new EventSerializationException(e);
+        }
+    }
+
+    @Override
+    public boolean isStreamSerializationSupported() {
+        return true;
+    }
+
     @Override
     public CloudEvent deserialize(byte[] bytes, CloudEventDataMapper<? extends CloudEventData> mapper)
 	    throws EventDeserializationException {
@@ -94,13 +94,13 @@ class XMLDeserializer implements CloudEventReader {
                                 writer.withContextAttribute(attrName, attrValue);
                                 break;
                             case XMLConstants.CE_ATTR_INTEGER:
-                                writer.withContextAttribute(attrName, Integer.valueOf(attrValue));
+                                writer.withContextAttribute(attrName, Integer.parseInt(attrValue));
                                 break;
                             case XMLConstants.CE_ATTR_TIMESTAMP:
                                 writer.withContextAttribute(attrName, Time.parseTime(attrValue));
                                 break;
                             case XMLConstants.CE_ATTR_BOOLEAN:
-                                writer.withContextAttribute(attrName, Boolean.valueOf(attrValue));
+                                writer.withContextAttribute(attrName, Boolean.parseBoolean(attrValue));
                                 break;
                             case XMLConstants.CE_ATTR_URI:
                                 writer.withContextAttribute(attrName, URI.create(attrValue));
@@ -27,6 +27,7 @@ import io.cloudevents.rw.CloudEventDataMapper;
 import org.w3c.dom.Document;
 
 import javax.xml.transform.TransformerException;
+import java.io.OutputStream;
 
 /**
  * An implemmentation of {@link EventFormat} for the XML Format.
@@ -55,6 +56,20 @@ public class XMLFormat implements EventFormat {
         }
     }
 
+    @Override
+    public void serialize(CloudEvent event, OutputStream out) throws EventSerializationException {
+        try {
+            XMLUtils.writeDocument(XMLSerializer.toDocument(event), out);
+        } catch (TransformerException e) {
+            throw new EventSerializationException(e);
+        }
+    }
+
+    @Override
+    public boolean isStreamSerializationSupported() {
+        return true;
+    }
+
     @Override
     public CloudEvent deserialize(byte[] bytes, CloudEventDataMapper<? extends CloudEventData> mapper)
         throws EventDeserializationException {
@@ -170,7 +170,7 @@ class XMLSerializer {
         public CloudEventContextWriter withContextAttribute(String name, Number value) throws CloudEventRWException {
 
             if (value instanceof Integer) {
-                return withContextAttribute(name, (Integer) value);
+                return withContextAttribute(name, value.intValue());
             } else {
                 return withContextAttribute(name, String.valueOf(value));
             }
@@ -183,6 +183,13 @@ class XMLSerializer {
             return this;
         }
 
+        @Override
+        public CloudEventContextWriter withContextAttribute(String name, int value) throws CloudEventRWException {
+
+            addElement(name, XMLConstants.CE_ATTR_INTEGER, Integer.toString(value));
+            return this;
+        }
+
         @Override
         public CloudEventContextWriter withContextAttribute(String name, Boolean value) throws CloudEventRWException {
 
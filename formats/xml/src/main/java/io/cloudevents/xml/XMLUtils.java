@@ -17,6 +17,7 @@
 
 package io.cloudevents.xml;
 
+import io.cloudevents.core.format.DataContentType;
 import io.cloudevents.rw.CloudEventRWException;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -36,14 +37,10 @@ import javax.xml.transform.stream.StreamResult;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.io.OutputStream;
 
 class XMLUtils {
 
-    private static final Pattern XML_PATTERN = Pattern.compile("^(application|text)\\/([a-zA-Z]+\\+)?xml(;.*)*$");
-    private static final Pattern TEXT_PATTERN = Pattern.compile("^application\\/([a-zA-Z]+\\+)?(xml|json)(;.*)*$");
-
 
     // Prevent Construction
     private XMLUtils() {
@@ -78,6 +75,19 @@ class XMLUtils {
      * @throws TransformerException
      */
     static byte[] documentToBytes(Document doc) throws TransformerException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        writeDocument(doc, os);
+        return os.toByteArray();
+    }
+
+    /**
+     * Write an {@link Document} to the provided stream
+     *
+     * @param doc {@link Document}
+     * @param os  the stream to write to
+     * @throws TransformerException
+     */
+    static void writeDocument(Document doc, OutputStream os) throws TransformerException {
 
         // Build our transformer
         TransformerFactory tFactory = TransformerFactory.newInstance();
@@ -85,14 +95,10 @@ class XMLUtils {
 
         // Assign the source and result
         Source src = new DOMSource(doc);
-        ByteArrayOutputStream os = new ByteArrayOutputStream();
         StreamResult result = new StreamResult(os);
 
         // Write out the document
         t.transform(src, result);
-
-        // And we're done
-        return os.toByteArray();
     }
 
     /**
@@ -134,9 +140,7 @@ class XMLUtils {
             return false;
         }
 
-        final Matcher m = XML_PATTERN.matcher(contentType);
-
-        return m.matches();
+        return DataContentType.of(contentType).isXml();
 
     }
 
@@ -151,13 +155,7 @@ class XMLUtils {
             return false;
         }
 
-        if (contentType.startsWith("text/")) {
-            return true;
-        }
-
-        final Matcher m = TEXT_PATTERN.matcher(contentType);
-
-        return m.matches();
+        return DataContentType.of(contentType).isText();
 
     }
 }
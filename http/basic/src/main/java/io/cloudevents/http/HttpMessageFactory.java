@@ -16,6 +16,7 @@
 
 package io.cloudevents.http;
 
+import io.cloudevents.core.data.StreamCloudEventData;
 import io.cloudevents.core.message.MessageReader;
 import io.cloudevents.core.message.MessageWriter;
 import io.cloudevents.core.message.impl.GenericStructuredMessageReader;
@@ -23,7 +24,12 @@ import io.cloudevents.core.message.impl.MessageUtils;
 import io.cloudevents.http.impl.CloudEventsHeaders;
 import io.cloudevents.http.impl.HttpMessageReader;
 import io.cloudevents.http.impl.HttpMessageWriter;
+import io.cloudevents.rw.CloudEventRWException;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
@@ -83,6 +89,40 @@ public final class HttpMessageFactory {
         );
     }
 
+    /**
+     * Creates a new {@link MessageReader} that can read both structured and binary messages from a HTTP response (client) or request (server),
+     * without buffering the body in binary mode.
+     * <p>
+     * In binary mode the body is exposed as a {@link StreamCloudEventData}, which can be consumed only once,
+     * while in structured mode the body is fully read in order to parse the event.
+     * As for {@link #createReader(Consumer, byte[])}, an empty body in binary mode results in an event without data:
+     * the first byte of the stream is read to find it out.
+     *
+     * @param forEachHeader http headers visitor function
+     * @param body          nullable stream of the body
+     * @return a message reader implementation with potentially an unknown encoding
+     * @throws IllegalArgumentException If, in case of binary mode, the spec version is invalid
+     */
+    public static MessageReader createStreamReader(Consumer<BiConsumer<String, String>> forEachHeader, InputStream body) {
+        final AtomicReference<String> contentType = new AtomicReference<>();
+        final AtomicReference<String> specVersion = new AtomicReference<>();
+
+        forEachHeader.accept((k, v) -> {
+            if (CONTENT_TYPE.equalsIgnoreCase(k)) {
+                contentType.set(v);
+            } else if (CloudEventsHeaders.SPEC_VERSION.equalsIgnoreCase(k)) {
+                specVersion.set(v);
+            }
+        });
+
+        return MessageUtils.parseStructuredOrBinaryMessage(
+            contentType::get,
+            format -> new GenericStructuredMessageReader(format, body != null ? StreamCloudEventData.wrap(body).toBytes() : null),
+            specVersion::get,
+            sv -> new HttpMessageReader(sv, forEachHeader, body != null ? nonEmptyData(body) : null)
+        );
+    }
+
     /**
      * Creates a new {@link MessageReader} that can read both structured and binary messages from a HTTP response (client) or request (server).
      *
@@ -147,4 +187,33 @@ public final class HttpMessageFactory {
         return new HttpMessageWriter(putHeader, sendBody);
     }
 
+    /**
+     * Creates a new {@link MessageWriter} that can write both structured and binary messages to a HTTP response (server) or request (client),
+     * streaming the body to the provided {@link OutputStream}. When the event data is a {@link StreamCloudEventData}, it's transferred
+     * without buffering it in memory.
+     * <p>
+     * The body stream is flushed, but not closed, once the event is written.
+     *
+     * @param putHeader a function that puts header into HTTP request or response.
+     * @param body      the stream where the body is written.
+     * @return a message writer
+     */
+    public static HttpMessageWriter createStreamWriter(BiConsumer<String, String> putHeader, OutputStream body) {
+        return new HttpMessageWriter(putHeader, body);
+    }
+
+    private static StreamCloudEventData nonEmptyData(InputStream body) {
+        PushbackInputStream stream = new PushbackInputStream(body, 1);
+        try {
+            int first = stream.read();
+            if (first == -1) {
+                return null;
+            }
+            stream.unread(first);
+        } catch (IOException e) {
+            throw CloudEventRWException.newOther(e);
+        }
+        return StreamCloudEventData.wrap(stream);
+    }
+
 }
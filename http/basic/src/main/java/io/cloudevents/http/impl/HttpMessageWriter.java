@@ -20,10 +20,13 @@ import io.cloudevents.CloudEventData;
 import io.cloudevents.SpecVersion;
 import io.cloudevents.core.format.EventFormat;
 import io.cloudevents.core.message.MessageWriter;
+import io.cloudevents.core.message.impl.MessageUtils;
 import io.cloudevents.rw.CloudEventContextWriter;
 import io.cloudevents.rw.CloudEventRWException;
 import io.cloudevents.rw.CloudEventWriter;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -33,27 +36,66 @@ public class HttpMessageWriter implements CloudEventWriter<Void>, MessageWriter<
 
     private final BiConsumer<String, String> putHeader;
     private final Consumer<byte[]> putBody;
+    private final OutputStream body;
 
     public HttpMessageWriter(BiConsumer<String, String> putHeader, Consumer<byte[]> putBody) {
         this.putHeader = putHeader;
         this.putBody = putBody;
+        this.body = null;
+    }
+
+    /**
+     * Create a writer that streams the body to the provided {@link OutputStream}, without buffering it.
+     * The stream is flushed, but not closed, at the end of the write.
+     *
+     * @param putHeader a function that puts header into HTTP request or response.
+     * @param body      the stream where the body is written.
+     */
+    public HttpMessageWriter(BiConsumer<String, String> putHeader, OutputStream body) {
+        this.putHeader = putHeader;
+        this.putBody = null;
+        this.body = body;
     }
 
     @Override
     public Void setEvent(EventFormat format, byte[] value) throws CloudEventRWException {
         putHeader.accept(CONTENT_TYPE, format.serializedContentType());
+        if (this.body != null) {
+            try {
+                this.body.write(value);
+            } catch (IOException e) {
+                throw CloudEventRWException.newOther(e);
+            }
+            return this.end();
+        }
         putBody.accept(value);
         return null;
     }
 
     @Override
     public Void end(CloudEventData value) throws CloudEventRWException {
+        if (this.body != null) {
+            try {
+                MessageUtils.writeData(value, this.body);
+            } catch (IOException e) {
+                throw CloudEventRWException.newOther(e);
+            }
+            return this.end();
+        }
         putBody.accept(value.toBytes());
         return null;
     }
 
     @Override
     public Void end() {
+        if (this.body != null) {
+            try {
+                this.body.flush();
+            } catch (IOException e) {
+                throw CloudEventRWException.newOther(e);
+            }
+            return null;
+        }
         putBody.accept(null);
         return null;
     }
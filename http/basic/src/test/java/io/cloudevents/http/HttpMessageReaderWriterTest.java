@@ -18,18 +18,30 @@ package io.cloudevents.http;
 
 import io.cloudevents.CloudEvent;
 import io.cloudevents.SpecVersion;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.data.StreamCloudEventData;
 import io.cloudevents.core.message.Encoding;
 import io.cloudevents.core.message.MessageReader;
 import io.cloudevents.core.message.impl.GenericStructuredMessageReader;
 import io.cloudevents.core.mock.CSVFormat;
 import io.cloudevents.http.impl.HttpMessageWriter;
 import io.cloudevents.types.Time;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
@@ -102,6 +114,90 @@ public class HttpMessageReaderWriterTest {
             .isEqualTo(expectedEvent);
     }
 
+    @ParameterizedTest
+    @MethodSource("binaryTestArguments")
+    public void testStreamBinary(CloudEvent expectedEvent, Map<String,String> expectedHeaders, byte[] expectedBody) {
+        MessageReader message = HttpMessageFactory.createStreamReader(
+            expectedHeaders::forEach,
+            expectedBody != null ? new ByteArrayInputStream(expectedBody) : null
+        );
+
+        assertThat(message.getEncoding())
+            .isEqualTo(Encoding.BINARY);
+
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        final Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        message.read(HttpMessageFactory.createStreamWriter(headers::put, body));
+
+        expectedHeaders.forEach((k, v) -> {
+            assertThat(headers.get(k)).isEqualTo(v);
+        });
+        if (expectedBody != null) {
+            assertThat(body.toByteArray()).isEqualTo(expectedBody);
+        }
+    }
+
+    @Test
+    public void testStreamBinaryEmptyBody() {
+        Headers headers = createHeaders()
+            .add("ce-specversion", SpecVersion.V1.toString())
+            .add("ce-id", ID)
+            .add("ce-type", TYPE)
+            .add("ce-source", SOURCE.toString());
+
+        MessageReader message = HttpMessageFactory.createStreamReader(headers::forEach, new ByteArrayInputStream(new byte[0]));
+
+        assertThat(message.toEvent())
+            .isEqualTo(HttpMessageFactory.createReader(headers, new byte[0]).toEvent())
+            .satisfies(event -> assertThat(event.getData()).isNull());
+    }
+
+    @Test
+    public void testStreamWriterDeletesSpilledData() throws IOException {
+        byte[] payload = "{\"name\":\"a payload larger than the memory threshold\"}".getBytes(StandardCharsets.UTF_8);
+        Set<Path> before = spilledFiles();
+        StreamCloudEventData data = StreamCloudEventData.spill(new ByteArrayInputStream(payload), 4);
+        Set<Path> spilled = spilledFiles();
+        spilled.removeAll(before);
+        assertThat(spilled)
+            .hasSize(1);
+
+        CloudEvent event = CloudEventBuilder.v1(V1_MIN).withData(DATACONTENTTYPE_JSON, data).build();
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        HttpMessageFactory.createStreamWriter((k, v) -> {}, body).writeBinary(event);
+
+        assertThat(body.toByteArray())
+            .isEqualTo(payload);
+        spilled.retainAll(spilledFiles());
+        assertThat(spilled)
+            .isEmpty();
+    }
+
+    /**
+     * @return the spilled files, either still linked in the temporary directory or, where the file is unlinked as soon
+     * as it's opened, still open by this process
+     */
+    private static Set<Path> spilledFiles() throws IOException {
+        Set<Path> files = new HashSet<>();
+        try (Stream<Path> tmp = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            tmp.forEach(files::add);
+        }
+        Path fds = Paths.get("/proc/self/fd");
+        if (Files.isDirectory(fds)) {
+            try (Stream<Path> open = Files.list(fds)) {
+                open.forEach(fd -> {
+                    try {
+                        files.add(Paths.get(Files.readSymbolicLink(fd).toString().replace(" (deleted)", "")));
+                    } catch (IOException e) {
+                        // The descriptor was closed meanwhile
+                    }
+                });
+            }
+        }
+        files.removeIf(p -> p.getFileName() == null || !p.getFileName().toString().startsWith("cloudevent-"));
+        return files;
+    }
+
     public static Stream<Arguments> binaryTestArguments() {
         return Stream.of(
             // V03
@@ -21,6 +21,7 @@ import io.cloudevents.CloudEventData;
 import io.cloudevents.SpecVersion;
 import io.cloudevents.core.format.EventFormat;
 import io.cloudevents.core.message.MessageWriter;
+import io.cloudevents.core.message.impl.MessageUtils;
 import io.cloudevents.rw.CloudEventRWException;
 import io.cloudevents.rw.CloudEventWriter;
 
@@ -61,7 +62,7 @@ public final class RestfulWSMessageWriter implements CloudEventWriter<Void>, Mes
     @Override
     public Void end(CloudEventData value) throws CloudEventRWException {
         try {
-            this.entityStream.write(value.toBytes());
+            MessageUtils.writeData(value, this.entityStream);
         } catch (IOException e) {
             throw CloudEventRWException.newOther(e);
         }
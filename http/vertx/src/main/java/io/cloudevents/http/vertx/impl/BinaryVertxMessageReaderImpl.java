@@ -18,7 +18,7 @@
 package io.cloudevents.http.vertx.impl;
 
 import io.cloudevents.SpecVersion;
-import io.cloudevents.core.data.BytesCloudEventData;
+import io.cloudevents.core.data.ByteBufferCloudEventData;
 import io.cloudevents.core.impl.StringUtils;
 import io.cloudevents.core.message.impl.BaseGenericBinaryMessageReaderImpl;
 import io.vertx.core.MultiMap;
@@ -33,7 +33,7 @@ public class BinaryVertxMessageReaderImpl extends BaseGenericBinaryMessageReader
     private final MultiMap headers;
 
     public BinaryVertxMessageReaderImpl(SpecVersion version, MultiMap headers, Buffer body) {
-        super(version, body != null && body.length() > 0 ? BytesCloudEventData.wrap(body.getBytes()) : null);
+        super(version, body != null && body.length() > 0 ? ByteBufferCloudEventData.wrap(body.getByteBuf().nioBuffer()) : null);
 
         Objects.requireNonNull(headers);
         this.headers = headers;
@@ -18,8 +18,10 @@
 package io.cloudevents.http.vertx.impl;
 
 import io.cloudevents.core.message.impl.MessageUtils;
+import io.netty.util.AsciiString;
 import io.vertx.core.http.HttpHeaders;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 public class CloudEventsHeaders {
@@ -35,4 +37,21 @@ public class CloudEventsHeaders {
 
     public static final CharSequence SPEC_VERSION = ATTRIBUTES_TO_HEADERS.get("specversion");
 
+    /**
+     * Convert a raw attribute value to a header value. Values made only of visible ASCII characters, spaces and tabs
+     * are copied in an {@link AsciiString} without decoding them, while any other value, like one containing CR or LF,
+     * is decoded as UTF-8 and goes through the same validation as the {@link String} values.
+     *
+     * @param value the raw attribute value
+     * @return the header value
+     */
+    public static CharSequence toHeaderValue(byte[] value) {
+        for (byte b : value) {
+            if ((b < 0x20 && b != '\t') || b == 0x7f) {
+                return new String(value, StandardCharsets.UTF_8);
+            }
+        }
+        return new AsciiString(value, true);
+    }
+
 }
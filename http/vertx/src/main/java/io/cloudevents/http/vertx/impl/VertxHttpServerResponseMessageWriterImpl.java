@@ -19,15 +19,18 @@ package io.cloudevents.http.vertx.impl;
 
 import io.cloudevents.CloudEventData;
 import io.cloudevents.SpecVersion;
+import io.cloudevents.core.data.BinaryCloudEventData;
 import io.cloudevents.core.format.EventFormat;
 import io.cloudevents.core.message.MessageWriter;
+import io.cloudevents.core.message.RawAttributeWriter;
 import io.cloudevents.rw.CloudEventRWException;
 import io.cloudevents.rw.CloudEventWriter;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerResponse;
 
-public class VertxHttpServerResponseMessageWriterImpl implements MessageWriter<CloudEventWriter<HttpServerResponse>, HttpServerResponse>, CloudEventWriter<HttpServerResponse> {
+public class VertxHttpServerResponseMessageWriterImpl implements MessageWriter<CloudEventWriter<HttpServerResponse>, HttpServerResponse>, CloudEventWriter<HttpServerResponse>, RawAttributeWriter {
 
     private final HttpServerResponse response;
 
@@ -47,20 +50,21 @@ public class VertxHttpServerResponseMessageWriterImpl implements MessageWriter<C
 
     @Override
     public VertxHttpServerResponseMessageWriterImpl withContextAttribute(String name, String value) throws CloudEventRWException {
-        CharSequence headerName = CloudEventsHeaders.ATTRIBUTES_TO_HEADERS.get(name);
-        if (headerName == null) {
-            headerName = "ce-" + name;
-        }
-        this.response.putHeader(headerName, value);
+        this.response.putHeader(toHeaderName(name), value);
         return this;
     }
 
+    @Override
+    public void withRawContextAttribute(String name, byte[] value) throws CloudEventRWException {
+        this.response.putHeader(toHeaderName(name), CloudEventsHeaders.toHeaderValue(value));
+    }
+
     @Override
     public HttpServerResponse end(CloudEventData value) throws CloudEventRWException {
         if (this.response.ended()) {
             throw CloudEventRWException.newOther(new IllegalStateException("Cannot set the body because the response is already ended"));
         }
-        this.response.end(Buffer.buffer(value.toBytes()));
+        this.response.end(Buffer.buffer(Unpooled.wrappedBuffer(BinaryCloudEventData.from(value).asReadOnlyByteBuffer())));
         return this.response;
     }
 
@@ -80,4 +84,12 @@ public class VertxHttpServerResponseMessageWriterImpl implements MessageWriter<C
         this.response.end(Buffer.buffer(value));
         return this.response;
     }
+
+    private static CharSequence toHeaderName(String name) {
+        CharSequence headerName = CloudEventsHeaders.ATTRIBUTES_TO_HEADERS.get(name);
+        if (headerName == null) {
+            headerName = "ce-" + name;
+        }
+        return headerName;
+    }
 }
@@ -19,17 +19,20 @@ package io.cloudevents.http.vertx.impl;
 
 import io.cloudevents.CloudEventData;
 import io.cloudevents.SpecVersion;
+import io.cloudevents.core.data.BinaryCloudEventData;
 import io.cloudevents.core.format.EventFormat;
 import io.cloudevents.core.message.MessageWriter;
+import io.cloudevents.core.message.RawAttributeWriter;
 import io.cloudevents.rw.CloudEventRWException;
 import io.cloudevents.rw.CloudEventWriter;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.ext.web.client.HttpRequest;
 import io.vertx.ext.web.client.HttpResponse;
 
-public class VertxWebClientRequestMessageWriterImpl implements MessageWriter<CloudEventWriter<Future<HttpResponse<Buffer>>>, Future<HttpResponse<Buffer>>>, CloudEventWriter<Future<HttpResponse<Buffer>>> {
+public class VertxWebClientRequestMessageWriterImpl implements MessageWriter<CloudEventWriter<Future<HttpResponse<Buffer>>>, Future<HttpResponse<Buffer>>>, CloudEventWriter<Future<HttpResponse<Buffer>>>, RawAttributeWriter {
 
     private final HttpRequest<Buffer> request;
 
@@ -49,17 +52,18 @@ public class VertxWebClientRequestMessageWriterImpl implements MessageWriter<Clo
 
     @Override
     public VertxWebClientRequestMessageWriterImpl withContextAttribute(String name, String value) throws CloudEventRWException {
-        CharSequence headerName = CloudEventsHeaders.ATTRIBUTES_TO_HEADERS.get(name);
-        if (headerName == null) {
-            headerName = "ce-" + name;
-        }
-        this.request.headers().add(headerName, value);
+        this.request.headers().add(toHeaderName(name), value);
         return this;
     }
 
+    @Override
+    public void withRawContextAttribute(String name, byte[] value) throws CloudEventRWException {
+        this.request.headers().add(toHeaderName(name), CloudEventsHeaders.toHeaderValue(value));
+    }
+
     @Override
     public Future<HttpResponse<Buffer>> end(CloudEventData value) throws CloudEventRWException {
-        return this.request.sendBuffer(Buffer.buffer(value.toBytes()));
+        return this.request.sendBuffer(Buffer.buffer(Unpooled.wrappedBuffer(BinaryCloudEventData.from(value).asReadOnlyByteBuffer())));
     }
 
     @Override
@@ -74,4 +78,12 @@ public class VertxWebClientRequestMessageWriterImpl implements MessageWriter<Clo
         this.request.headers().add(HttpHeaders.CONTENT_TYPE, format.serializedContentType());
         return this.request.sendBuffer(Buffer.buffer(value));
     }
+
+    private static CharSequence toHeaderName(String name) {
+        CharSequence headerName = CloudEventsHeaders.ATTRIBUTES_TO_HEADERS.get(name);
+        if (headerName == null) {
+            headerName = "ce-" + name;
+        }
+        return headerName;
+    }
 }
@@ -19,24 +19,29 @@ package io.cloudevents.http.vertx;
 
 import io.cloudevents.CloudEvent;
 import io.cloudevents.SpecVersion;
+import io.cloudevents.core.message.RawAttributeWriter;
 import io.cloudevents.core.mock.CSVFormat;
 import io.cloudevents.types.Time;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.client.HttpRequest;
 import io.vertx.ext.web.client.WebClient;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.nio.charset.StandardCharsets;
 import java.util.stream.Stream;
 
 import static io.cloudevents.core.test.Data.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @ExtendWith(VertxExtension.class)
 public class VertxHttpClientRequestMessageWriterTest {
@@ -124,6 +129,22 @@ public class VertxHttpClientRequestMessageWriterTest {
             }));
     }
 
+    @Test
+    void testRawAttributeValues(Vertx vertx) {
+        HttpRequest<Buffer> request = WebClient.create(vertx).post(9000, "localhost", "/");
+        RawAttributeWriter writer = (RawAttributeWriter) VertxMessageFactory.createWriter(request);
+
+        writer.withRawContextAttribute("subject", SUBJECT.getBytes(StandardCharsets.UTF_8));
+        writer.withRawContextAttribute("astring", "caf\u00e9".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(request.headers().get("ce-subject"))
+            .isEqualTo(SUBJECT);
+        assertThat(request.headers().get("ce-astring"))
+            .isEqualTo("caf\u00e9");
+        assertThatThrownBy(() -> writer.withRawContextAttribute("aheader", "a\r\nb".getBytes(StandardCharsets.UTF_8)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
     public static Stream<Arguments> binaryTestArguments() {
         return Stream.of(
             // V03
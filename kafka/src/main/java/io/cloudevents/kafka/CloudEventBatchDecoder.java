@@ -0,0 +1,180 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package io.cloudevents.kafka;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.SpecVersion;
+import io.cloudevents.core.format.EventFormat;
+import io.cloudevents.core.message.MessageReader;
+import io.cloudevents.core.message.impl.GenericStructuredMessageReader;
+import io.cloudevents.core.provider.EventFormatProvider;
+import io.cloudevents.kafka.impl.KafkaBinaryMessageReaderImpl;
+import io.cloudevents.kafka.impl.KafkaHeaders;
+import io.cloudevents.lang.Nullable;
+import io.cloudevents.rw.CloudEventDataMapper;
+import io.cloudevents.rw.CloudEventRWException;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Decoder of the whole {@link ConsumerRecords} returned by a poll into {@link CloudEvent}s.
+ * <p>
+ * The records of each partition are decoded in order, and the content type and spec version headers shared by consecutive records
+ * are resolved only once. When configured with a {@link ForkJoinPool}, the partitions are decoded in parallel, one task per partition,
+ * so the order of the events within each partition is preserved.
+ * <p>
+ * As with {@link CloudEventDeserializer}, a record that cannot be decoded makes the whole batch fail with a {@link CloudEventRWException}.
+ * Instances of this class are thread safe.
+ */
+@ParametersAreNonnullByDefault
+public final class CloudEventBatchDecoder {
+
+    private final CloudEventDataMapper<? extends CloudEventData> mapper;
+    private final ForkJoinPool pool;
+
+    /**
+     * Create a decoder decoding the records on the calling thread, without mapping the data.
+     */
+    public CloudEventBatchDecoder() {
+        this(null, null);
+    }
+
+    /**
+     * @param mapper the mapper to use to map the data of each event, or null to leave the data as it is
+     * @param pool   the pool to use to decode the partitions in parallel, or null to decode them on the calling thread
+     */
+    public CloudEventBatchDecoder(@Nullable CloudEventDataMapper<? extends CloudEventData> mapper, @Nullable ForkJoinPool pool) {
+        this.mapper = mapper;
+        this.pool = pool;
+    }
+
+    /**
+     * Decode the provided records.
+     * <p>
+     * The returned map contains an entry per partition, in the order of {@link ConsumerRecords#partitions()}.
+     * The i-th event of each list is decoded from the i-th record of {@link ConsumerRecords#records(TopicPartition)},
+     * so the events can be matched back to the offsets of their records.
+     *
+     * @param records the records to decode
+     * @param <K>     the type of the record key
+     * @return the events, grouped by partition
+     * @throws CloudEventRWException if a record cannot be decoded
+     */
+    public <K> Map<TopicPartition, List<CloudEvent>> decode(ConsumerRecords<K, byte[]> records) throws CloudEventRWException {
+        Set<TopicPartition> partitions = records.partitions();
+        Map<TopicPartition, List<CloudEvent>> events = new LinkedHashMap<>();
+        if (this.pool == null || partitions.size() < 2) {
+            for (TopicPartition partition : partitions) {
+                events.put(partition, decodePartition(records.records(partition)));
+            }
+            return events;
+        }
+
+        List<ForkJoinTask<List<CloudEvent>>> tasks = new ArrayList<>(partitions.size());
+        for (TopicPartition partition : partitions) {
+            List<ConsumerRecord<K, byte[]>> partitionRecords = records.records(partition);
+            tasks.add(this.pool.submit(() -> decodePartition(partitionRecords)));
+        }
+        int i = 0;
+        for (TopicPartition partition : partitions) {
+            events.put(partition, tasks.get(i++).join());
+        }
+        return events;
+    }
+
+    private <K> List<CloudEvent> decodePartition(List<ConsumerRecord<K, byte[]>> records) {
+        // The state is confined to the task decoding the partition
+        ReaderFactory readers = new ReaderFactory();
+        List<CloudEvent> events = new ArrayList<>(records.size());
+        for (ConsumerRecord<K, byte[]> record : records) {
+            MessageReader reader = readers.create(record.headers(), record.value());
+            events.add(this.mapper == null ? reader.toEvent() : reader.toEvent(this.mapper));
+        }
+        return events;
+    }
+
+    /**
+     * Equivalent of {@link KafkaMessageFactory#createReader(Headers, byte[])}, remembering the last resolved
+     * content type and spec version to skip their decoding when the next record carries the same header values.
+     */
+    private static final class ReaderFactory {
+
+        private byte[] lastContentType;
+        private EventFormat lastFormat;
+        private boolean lastContentTypeIsUnknownFormat;
+        private byte[] lastSpecVersion;
+        private SpecVersion lastParsedSpecVersion;
+
+        MessageReader create(Headers headers, byte[] payload) {
+            // Let's try structured mode
+            Header contentType = headers.lastHeader(KafkaHeaders.CONTENT_TYPE);
+            if (contentType != null && contentType.value() != null) {
+                resolveFormat(contentType.value());
+                if (this.lastFormat != null) {
+                    return new GenericStructuredMessageReader(this.lastFormat, payload);
+                }
+                if (this.lastContentTypeIsUnknownFormat) {
+                    throw CloudEventRWException.newUnknownEncodingException();
+                }
+            }
+
+            // Let's try binary mode
+            Header specVersion = headers.lastHeader(KafkaHeaders.SPEC_VERSION);
+            if (specVersion != null && specVersion.value() != null) {
+                return new KafkaBinaryMessageReaderImpl(parseSpecVersion(specVersion.value()), headers, payload);
+            }
+
+            throw CloudEventRWException.newUnknownEncodingException();
+        }
+
+        private void resolveFormat(byte[] contentType) {
+            if (Arrays.equals(contentType, this.lastContentType)) {
+                return;
+            }
+            String value = new String(contentType, StandardCharsets.UTF_8);
+            this.lastFormat = EventFormatProvider.getInstance().resolveFormat(value);
+            // The format isn't one we support, but it's a structured representation that we can't interpret
+            this.lastContentTypeIsUnknownFormat = this.lastFormat == null && value.startsWith("application/cloudevents");
+            this.lastContentType = contentType.clone();
+        }
+
+        private SpecVersion parseSpecVersion(byte[] specVersion) {
+            if (!Arrays.equals(specVersion, this.lastSpecVersion)) {
+                this.lastParsedSpecVersion = SpecVersion.parse(new String(specVersion, StandardCharsets.UTF_8));
+                this.lastSpecVersion = specVersion.clone();
+            }
+            return this.lastParsedSpecVersion;
+        }
+    }
+}
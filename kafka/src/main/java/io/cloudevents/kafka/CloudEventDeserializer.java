@@ -57,7 +57,10 @@ public class CloudEventDeserializer implements Deserializer<CloudEvent> {
 
     @Override
     public CloudEvent deserialize(String topic, Headers headers, byte[] data) {
-        MessageReader reader = KafkaMessageFactory.createReader(headers, data);
+        return toEvent(KafkaMessageFactory.createReader(headers, data));
+    }
+
+    CloudEvent toEvent(MessageReader reader) {
         if (mapper == null) {
             return reader.toEvent();
         } else {
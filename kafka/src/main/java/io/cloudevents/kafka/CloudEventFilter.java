@@ -0,0 +1,66 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.kafka;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.sql.EvaluationRuntime;
+import io.cloudevents.sql.Expression;
+import io.cloudevents.sql.Parser;
+import io.cloudevents.sql.Type;
+
+import java.util.Map;
+
+/**
+ * Configuration and evaluation of the CloudEvents SQL filter shared by {@link CloudEventFilteringDeserializer}
+ * and {@link CloudEventFilterInterceptor}.
+ */
+final class CloudEventFilter {
+
+    static final String FILTER_CONFIG = "cloudevents.filter";
+
+    private CloudEventFilter() {
+    }
+
+    /**
+     * @return the configured filter expression, or null if none is configured
+     */
+    static Expression configure(Map<String, ?> configs) {
+        Object filterConfig = configs.get(FILTER_CONFIG);
+        if (filterConfig instanceof Expression) {
+            return (Expression) filterConfig;
+        } else if (filterConfig instanceof String) {
+            return Parser.parseDefault((String) filterConfig);
+        } else if (filterConfig != null) {
+            throw new IllegalArgumentException(FILTER_CONFIG + " can be of type String or " + Expression.class.getCanonicalName());
+        }
+        return null;
+    }
+
+    /**
+     * An event matches when the expression evaluates to true. Evaluation errors, like accessing a missing attribute,
+     * evaluate to the default value of their type, hence they usually don't match.
+     */
+    static boolean matches(Expression expression, CloudEvent event) {
+        EvaluationRuntime runtime = EvaluationRuntime.getDefault();
+        Object value = expression.evaluate(runtime, event).value();
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        return runtime.canCast(value, Type.BOOLEAN) && (Boolean) runtime.cast(value, Type.BOOLEAN);
+    }
+}
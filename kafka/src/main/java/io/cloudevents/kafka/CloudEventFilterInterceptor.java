@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.kafka;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.message.Encoding;
+import io.cloudevents.core.message.MessageReader;
+import io.cloudevents.rw.CloudEventRWException;
+import io.cloudevents.sql.Expression;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerInterceptor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Kafka {@link ConsumerInterceptor} removing from the polled records the events not matching a CloudEvents SQL expression.
+ * <p>
+ * The expression is configured through the configuration key {@link #FILTER_CONFIG}, either as an {@link Expression} instance or
+ * as a {@link String} to parse.
+ * <p>
+ * When the {@link org.apache.kafka.clients.consumer.ConsumerConfig#VALUE_DESERIALIZER_CLASS_CONFIG} is a {@link CloudEventFilteringDeserializer},
+ * the expression was already evaluated by the deserializer, which returns {@code null} for the non matching events: in this case,
+ * only the records without a value are removed, and the expression is not evaluated again.
+ * Otherwise, records are filtered as follows:
+ * <ul>
+ *     <li>Binary mode records are evaluated on the headers only, regardless of the value type</li>
+ *     <li>Records with a {@link CloudEvent} value are evaluated on the value</li>
+ *     <li>Any other record is kept, including structured mode records without a value, as tombstones</li>
+ * </ul>
+ * <p>
+ * Interceptors run after the deserialization: to skip the payload conversion of non matching records, use it together
+ * with {@link CloudEventFilteringDeserializer}, both configured with the same {@link #FILTER_CONFIG}.
+ * <p>
+ * This class requires the {@code cloudevents-sql} module on the classpath.
+ *
+ * @param <K> the type of the record key
+ * @param <V> the type of the record value
+ */
+public class CloudEventFilterInterceptor<K, V> implements ConsumerInterceptor<K, V> {
+
+    /**
+     * The configuration key for the filter {@link Expression}.
+     */
+    public final static String FILTER_CONFIG = CloudEventFilter.FILTER_CONFIG;
+
+    private Expression filter = null;
+    private boolean dropNullValues = false;
+
+    @Override
+    public void configure(Map<String, ?> configs) {
+        this.filter = CloudEventFilter.configure(configs);
+        this.dropNullValues = isFilteringDeserializer(configs.get(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG));
+    }
+
+    @Override
+    public ConsumerRecords<K, V> onConsume(ConsumerRecords<K, V> records) {
+        if (filter == null || records.isEmpty()) {
+            return records;
+        }
+        Map<TopicPartition, List<ConsumerRecord<K, V>>> filtered = new LinkedHashMap<>();
+        boolean dropped = false;
+        for (TopicPartition partition : records.partitions()) {
+            List<ConsumerRecord<K, V>> partitionRecords = records.records(partition);
+            List<ConsumerRecord<K, V>> kept = new ArrayList<>(partitionRecords.size());
+            for (ConsumerRecord<K, V> record : partitionRecords) {
+                if (accept(record)) {
+                    kept.add(record);
+                }
+            }
+            dropped |= kept.size() != partitionRecords.size();
+            if (!kept.isEmpty()) {
+                filtered.put(partition, kept);
+            }
+        }
+        return dropped ? new ConsumerRecords<>(filtered) : records;
+    }
+
+    private boolean accept(ConsumerRecord<K, V> record) {
+        if (dropNullValues) {
+            // The filtering deserializer evaluated the expression already
+            return record.value() != null;
+        }
+        MessageReader reader;
+        try {
+            reader = KafkaMessageFactory.createReader(record.headers(), null);
+        } catch (CloudEventRWException e) {
+            // Not a CloudEvent, or in a format we don't know
+            return !(record.value() instanceof CloudEvent) || CloudEventFilter.matches(filter, (CloudEvent) record.value());
+        }
+        if (reader.getEncoding() == Encoding.BINARY) {
+            return CloudEventFilter.matches(filter, reader.toLazyEvent());
+        }
+        if (record.value() instanceof CloudEvent) {
+            return CloudEventFilter.matches(filter, (CloudEvent) record.value());
+        }
+        return true;
+    }
+
+    private static boolean isFilteringDeserializer(Object deserializer) {
+        if (deserializer instanceof String) {
+            try {
+                deserializer = Class.forName((String) deserializer, false, CloudEventFilterInterceptor.class.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                return false;
+            }
+        }
+        return deserializer instanceof Class && CloudEventFilteringDeserializer.class.isAssignableFrom((Class<?>) deserializer);
+    }
+
+    @Override
+    public void onCommit(Map<TopicPartition, OffsetAndMetadata> offsets) {
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.kafka;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.message.Encoding;
+import io.cloudevents.core.message.MessageReader;
+import io.cloudevents.sql.Expression;
+import org.apache.kafka.common.header.Headers;
+
+import java.util.Map;
+
+/**
+ * {@link CloudEventDeserializer} dropping the events not matching a CloudEvents SQL expression.
+ * <p>
+ * The expression is configured through the configuration key {@link #FILTER_CONFIG}, either as an {@link Expression} instance or
+ * as a {@link String} to parse. For binary mode records, the expression is evaluated on the headers only, and the payload is converted
+ * only for the matching records. Structured mode records are always decoded before evaluating the expression.
+ * <p>
+ * Non matching records are deserialized to {@code null}. Configure {@link CloudEventFilterInterceptor} on the same consumer
+ * to remove them from the polled records.
+ * <p>
+ * This class requires the {@code cloudevents-sql} module on the classpath.
+ */
+public class CloudEventFilteringDeserializer extends CloudEventDeserializer {
+
+    /**
+     * The configuration key for the filter {@link Expression}.
+     */
+    public final static String FILTER_CONFIG = CloudEventFilter.FILTER_CONFIG;
+
+    private Expression filter = null;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        super.configure(configs, isKey);
+        this.filter = CloudEventFilter.configure(configs);
+    }
+
+    @Override
+    public CloudEvent deserialize(String topic, Headers headers, byte[] data) {
+        MessageReader reader = KafkaMessageFactory.createReader(headers, data);
+        if (filter == null) {
+            return toEvent(reader);
+        }
+        if (reader.getEncoding() == Encoding.BINARY) {
+            // The lazy view decodes only the attributes accessed by the expression, and never the payload
+            if (!CloudEventFilter.matches(filter, reader.toLazyEvent())) {
+                return null;
+            }
+            return toEvent(reader);
+        }
+        CloudEvent event = toEvent(reader);
+        return CloudEventFilter.matches(filter, event) ? event : null;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.kafka;
+
+import io.cloudevents.AttributeKey;
+import io.cloudevents.CloudEvent;
+import io.cloudevents.types.Time;
+import org.apache.kafka.clients.producer.Partitioner;
+import org.apache.kafka.clients.producer.UniformStickyPartitioner;
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.utils.Utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Kafka {@link Partitioner} choosing the partition from the attributes or extensions of the {@link CloudEvent} record value.
+ * <p>
+ * The attributes to use are configured through the configuration key {@link #PARTITION_ATTRIBUTES_CONFIG}, either as a
+ * {@link List} or as a comma separated {@link String} of names, by default {@value #PARTITION_KEY_EXTENSION}.
+ * The first attribute or extension with a value is hashed with murmur2, like the Kafka default partitioner does for keys.
+ * Because the value is converted to {@link String} and hashed as UTF-8, {@code partitionkey} lands on the same partition as when
+ * {@link PartitionKeyExtensionInterceptor} sets it as a key serialized by {@link org.apache.kafka.common.serialization.StringSerializer},
+ * without copying the record.
+ * <p>
+ * When the value is not a {@link CloudEvent}, or none of the configured attributes has a value, records with a key are partitioned
+ * by the murmur2 hash of the serialized key and records without a key are spread with {@link UniformStickyPartitioner},
+ * which are the same choices of the Kafka default partitioner.
+ */
+public class CloudEventPartitioner implements Partitioner {
+
+    /**
+     * The configuration key for the attributes to partition on.
+     */
+    public final static String PARTITION_ATTRIBUTES_CONFIG = "cloudevents.partitioner.attributes";
+
+    /**
+     * The extension key of partition key extension.
+     */
+    public static final String PARTITION_KEY_EXTENSION = PartitionKeyExtensionInterceptor.PARTITION_KEY_EXTENSION;
+
+    private static final int SEED = 0x9747b28c;
+    private static final int M = 0x5bd1e995;
+    private static final int R = 24;
+
+    private final UniformStickyPartitioner unkeyed = new UniformStickyPartitioner();
+    private String[] names = {PARTITION_KEY_EXTENSION};
+    // For each name, the attribute key, or null if the name is an extension
+    private AttributeKey[] keys = {null};
+
+    @Override
+    public void configure(Map<String, ?> configs) {
+        this.unkeyed.configure(configs);
+        Object attributesConfig = configs.get(PARTITION_ATTRIBUTES_CONFIG);
+        List<?> attributes;
+        if (attributesConfig instanceof String) {
+            attributes = Arrays.asList(((String) attributesConfig).split(","));
+        } else if (attributesConfig instanceof List) {
+            attributes = (List<?>) attributesConfig;
+        } else if (attributesConfig == null) {
+            attributes = Collections.singletonList(PARTITION_KEY_EXTENSION);
+        } else {
+            throw new IllegalArgumentException(PARTITION_ATTRIBUTES_CONFIG + " can be of type String or " + List.class.getCanonicalName());
+        }
+        if (attributes.isEmpty()) {
+            throw new IllegalArgumentException(PARTITION_ATTRIBUTES_CONFIG + " cannot be empty");
+        }
+
+        this.names = new String[attributes.size()];
+        this.keys = new AttributeKey[attributes.size()];
+        for (int i = 0; i < attributes.size(); i++) {
+            this.names[i] = attributes.get(i).toString().trim();
+            this.keys[i] = AttributeKey.lookup(this.names[i]);
+        }
+    }
+
+    @Override
+    public int partition(String topic, Object key, byte[] keyBytes, Object value, byte[] valueBytes, Cluster cluster) {
+        if (value instanceof CloudEvent) {
+            Object attribute = firstAttribute((CloudEvent) value);
+            if (attribute != null) {
+                return Utils.toPositive(hash(attribute)) % cluster.partitionsForTopic(topic).size();
+            }
+        }
+        if (keyBytes != null) {
+            return Utils.toPositive(Utils.murmur2(keyBytes)) % cluster.partitionsForTopic(topic).size();
+        }
+        return unkeyed.partition(topic, key, null, value, valueBytes, cluster);
+    }
+
+    @Override
+    public void onNewBatch(String topic, Cluster cluster, int prevPartition) {
+        unkeyed.onNewBatch(topic, cluster, prevPartition);
+    }
+
+    @Override
+    public void close() {
+        unkeyed.close();
+    }
+
+    private Object firstAttribute(CloudEvent event) {
+        for (int i = 0; i < names.length; i++) {
+            Object value;
+            AttributeKey key = keys[i];
+            if (key == null) {
+                value = event.getExtension(names[i]);
+            } else if (key.isAttributeOf(event.getSpecVersion())) {
+                value = key.get(event);
+            } else {
+                continue;
+            }
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static int hash(Object value) {
+        if (value instanceof String) {
+            return murmur2((String) value);
+        }
+        if (value instanceof byte[]) {
+            return Utils.murmur2((byte[]) value);
+        }
+        if (value instanceof OffsetDateTime) {
+            return murmur2(Time.writeTime((OffsetDateTime) value));
+        }
+        return murmur2(value.toString());
+    }
+
+    /**
+     * Same as {@link Utils#murmur2(byte[])} of the UTF-8 encoding of {@code value}, without encoding it when it's ASCII.
+     */
+    static int murmur2(String value) {
+        int length = value.length();
+        int h = SEED ^ length;
+        int length4 = length & ~3;
+        for (int i = 0; i < length4; i += 4) {
+            char c0 = value.charAt(i);
+            char c1 = value.charAt(i + 1);
+            char c2 = value.charAt(i + 2);
+            char c3 = value.charAt(i + 3);
+            if ((c0 | c1 | c2 | c3) >= 0x80) {
+                return Utils.murmur2(value.getBytes(StandardCharsets.UTF_8));
+            }
+            int k = c0 | (c1 << 8) | (c2 << 16) | (c3 << 24);
+            k *= M;
+            k ^= k >>> R;
+            k *= M;
+            h *= M;
+            h ^= k;
+        }
+        for (int i = length4; i < length; i++) {
+            if (value.charAt(i) >= 0x80) {
+                return Utils.murmur2(value.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        switch (length - length4) {
+            case 3:
+                h ^= value.charAt(length4 + 2) << 16;
+            case 2:
+                h ^= value.charAt(length4 + 1) << 8;
+            case 1:
+                h ^= value.charAt(length4);
+                h *= M;
+        }
+        h ^= h >>> 13;
+        h *= M;
+        h ^= h >>> 15;
+        return h;
+    }
+}
@@ -17,18 +17,30 @@
 
 package io.cloudevents.kafka.impl;
 
+import io.cloudevents.CloudEvent;
 import io.cloudevents.CloudEventData;
 import io.cloudevents.core.format.EventFormat;
 import io.cloudevents.core.message.MessageWriter;
+import io.cloudevents.core.message.RawAttributeWriter;
+import io.cloudevents.core.provider.EventFormatProvider;
 import io.cloudevents.rw.CloudEventRWException;
 import io.cloudevents.rw.CloudEventWriter;
 
+import java.io.ByteArrayOutputStream;
 import java.nio.charset.StandardCharsets;
 
 import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.header.internals.RecordHeader;
 
-abstract class BaseKafkaMessageWriterImpl<R> implements MessageWriter<CloudEventWriter<R>, R>, CloudEventWriter<R> {
+abstract class BaseKafkaMessageWriterImpl<R> implements MessageWriter<CloudEventWriter<R>, R>, CloudEventWriter<R>, RawAttributeWriter {
+
+    private static final int INITIAL_BUFFER_SIZE = 4096;
+    // Buffers grown above this size are dropped after use, so a single big event doesn't pin its memory
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1 << 20;
+
+    // Per thread buffer the structured events are serialized into, before being copied to the record value
+    private static final ThreadLocal<ByteArrayOutputStream> BUFFER =
+        ThreadLocal.withInitial(() -> new ByteArrayOutputStream(INITIAL_BUFFER_SIZE));
 
     final Headers headers;
     byte[] value;
@@ -39,20 +51,47 @@ abstract class BaseKafkaMessageWriterImpl<R> implements MessageWriter<CloudEvent
 
     @Override
     public BaseKafkaMessageWriterImpl<R> withContextAttribute(String name, String value) throws CloudEventRWException {
-        String headerName = KafkaHeaders.ATTRIBUTES_TO_HEADERS.get(name);
-        if (headerName == null) {
-            headerName = KafkaHeaders.CE_PREFIX + name;
-        }
-        headers.add(new RecordHeader(headerName, value.getBytes(StandardCharsets.UTF_8)));
+        headers.add(new RecordHeader(KafkaHeaders.toHeaderKey(name), value.getBytes(StandardCharsets.UTF_8)));
         return this;
     }
 
+    @Override
+    public void withRawContextAttribute(String name, byte[] value) throws CloudEventRWException {
+        // The value belongs to the record it was read from
+        headers.add(new RecordHeader(KafkaHeaders.toHeaderKey(name), value.clone()));
+    }
+
     @Override
     public R end(CloudEventData value) throws CloudEventRWException {
         this.value = value.toBytes();
         return this.end();
     }
 
+    @Override
+    public R writeStructured(CloudEvent event, String format) {
+        EventFormat resolved = EventFormatProvider.getInstance().resolveFormat(format);
+        if (resolved == null) {
+            throw new IllegalArgumentException("Format " + format + " not found");
+        }
+        return writeStructured(event, resolved);
+    }
+
+    @Override
+    public R writeStructured(CloudEvent event, EventFormat format) {
+        if (!format.isStreamSerializationSupported()) {
+            // Going through the buffer would only copy the array returned by the format
+            return setEvent(format, format.serialize(event));
+        }
+        ByteArrayOutputStream buffer = BUFFER.get();
+        buffer.reset();
+        format.serialize(event, buffer);
+        byte[] value = buffer.toByteArray();
+        if (buffer.size() > MAX_RETAINED_BUFFER_SIZE) {
+            BUFFER.remove();
+        }
+        return setEvent(format, value);
+    }
+
     @Override
     public R setEvent(EventFormat format, byte[] value) throws CloudEventRWException {
         this.headers.add(new RecordHeader(KafkaHeaders.CONTENT_TYPE, format.serializedContentType().getBytes(StandardCharsets.UTF_8)));
@@ -49,7 +49,7 @@ public class KafkaBinaryMessageReaderImpl extends BaseGenericBinaryMessageReader
 
     @Override
     protected String toCloudEventsKey(String key) {
-        return key.substring(KafkaHeaders.CE_PREFIX.length()).toLowerCase();
+        return KafkaHeaders.toAttributeName(key);
     }
 
     @Override
@@ -61,4 +61,14 @@ public class KafkaBinaryMessageReaderImpl extends BaseGenericBinaryMessageReader
     protected String toCloudEventsValue(byte[] value) {
         return new String(value, StandardCharsets.UTF_8);
     }
+
+    @Override
+    protected String toCloudEventsValue(String name, byte[] value) {
+        return KafkaHeaders.decodeValue(name, value);
+    }
+
+    @Override
+    protected byte[] toCloudEventsRawValue(byte[] value) {
+        return value;
+    }
 }
@@ -17,12 +17,14 @@
 package io.cloudevents.kafka.impl;
 
 import io.cloudevents.core.message.impl.MessageUtils;
+import io.cloudevents.core.v03.CloudEventV03;
 import io.cloudevents.core.v1.CloudEventV1;
 
 import org.apache.kafka.common.header.Header;
 import org.apache.kafka.common.header.Headers;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Map;
 
 /**
@@ -47,6 +49,97 @@ public class KafkaHeaders {
 
     public static final String SPEC_VERSION = ATTRIBUTES_TO_HEADERS.get(CloudEventV1.SPECVERSION);
 
+    // Number of slots of the direct mapped caches, must be a power of two.
+    // A slot is overwritten by the last value hashed to it, so the caches are bounded and follow the recently used values
+    private static final int CACHE_SLOTS = 256;
+
+    private static final CachedName[] HEADERS_TO_NAMES = new CachedName[CACHE_SLOTS];
+    private static final CachedName[] NAMES_TO_HEADERS = new CachedName[CACHE_SLOTS];
+    private static final DecodedValue[] DECODED_VALUES = new DecodedValue[CACHE_SLOTS];
+
+    /**
+     * Convert a CloudEvents header key, prefix included, to the attribute name, caching the result for the next records.
+     */
+    static String toAttributeName(String headerKey) {
+        int slot = headerKey.hashCode() & (CACHE_SLOTS - 1);
+        CachedName cached = HEADERS_TO_NAMES[slot];
+        if (cached != null && cached.key.equals(headerKey)) {
+            return cached.value;
+        }
+        String name = headerKey.substring(CE_PREFIX.length()).toLowerCase();
+        HEADERS_TO_NAMES[slot] = new CachedName(headerKey, name);
+        return name;
+    }
+
+    /**
+     * Convert an attribute name to its header key, caching the result for the next records.
+     */
+    static String toHeaderKey(String name) {
+        int slot = name.hashCode() & (CACHE_SLOTS - 1);
+        CachedName cached = NAMES_TO_HEADERS[slot];
+        if (cached != null && cached.key.equals(name)) {
+            return cached.value;
+        }
+        String headerKey = ATTRIBUTES_TO_HEADERS.get(name);
+        if (headerKey == null) {
+            headerKey = CE_PREFIX + name;
+        }
+        NAMES_TO_HEADERS[slot] = new CachedName(name, headerKey);
+        return headerKey;
+    }
+
+    /**
+     * Decode a header value. The values of the attributes usually shared by many records are looked up
+     * in a cache indexed by the value bytes, so decoding them doesn't allocate.
+     */
+    static String decodeValue(String name, byte[] value) {
+        if (!isRepeatedAttribute(name)) {
+            return new String(value, StandardCharsets.UTF_8);
+        }
+        int slot = Arrays.hashCode(value) & (CACHE_SLOTS - 1);
+        DecodedValue cached = DECODED_VALUES[slot];
+        if (cached != null && Arrays.equals(cached.bytes, value)) {
+            return cached.value;
+        }
+        String decoded = new String(value, StandardCharsets.UTF_8);
+        // Copy the bytes, since the header value array is owned by the record
+        DECODED_VALUES[slot] = new DecodedValue(Arrays.copyOf(value, value.length), decoded);
+        return decoded;
+    }
+
+    private static boolean isRepeatedAttribute(String name) {
+        switch (name) {
+            case CloudEventV1.TYPE:
+            case CloudEventV1.SOURCE:
+            case CloudEventV1.DATACONTENTTYPE:
+            case CloudEventV1.DATASCHEMA:
+            case CloudEventV03.SCHEMAURL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static final class CachedName {
+        private final String key;
+        private final String value;
+
+        private CachedName(String key, String value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    private static final class DecodedValue {
+        private final byte[] bytes;
+        private final String value;
+
+        private DecodedValue(byte[] bytes, String value) {
+            this.bytes = bytes;
+            this.value = value;
+        }
+    }
+
     public static String getParsedKafkaHeader(Headers headers, String key) {
         Header h = headers.lastHeader(key);
         if (h == null) {
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package io.cloudevents.kafka;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.mock.CSVFormat;
+import io.cloudevents.core.mock.MyCloudEventData;
+import io.cloudevents.core.test.Data;
+import io.cloudevents.rw.CloudEventRWException;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CloudEventBatchDecoderTest {
+
+    private static final String TOPIC = "test";
+
+    @Test
+    public void decodeSequentially() {
+        testDecode(new CloudEventBatchDecoder());
+    }
+
+    @Test
+    public void decodeInParallel() {
+        testDecode(new CloudEventBatchDecoder(null, ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    public void decodeWithMapper() {
+        CloudEvent event = CloudEventBuilder.v1(Data.V1_MIN)
+            .withData("application/json", "10".getBytes(StandardCharsets.UTF_8))
+            .build();
+        Map<TopicPartition, List<ConsumerRecord<String, byte[]>>> records = new HashMap<>();
+        records.put(new TopicPartition(TOPIC, 0), records(0, event, event));
+
+        Map<TopicPartition, List<CloudEvent>> decoded = new CloudEventBatchDecoder(
+            data -> MyCloudEventData.fromStringBytes(data.toBytes()),
+            ForkJoinPool.commonPool()
+        ).decode(new ConsumerRecords<>(records));
+
+        assertThat(decoded.get(new TopicPartition(TOPIC, 0)))
+            .extracting(CloudEvent::getData)
+            .containsExactly(new MyCloudEventData(10), new MyCloudEventData(10));
+    }
+
+    @Test
+    public void throwOnUnknownEncoding() {
+        Map<TopicPartition, List<ConsumerRecord<String, byte[]>>> records = new HashMap<>();
+        List<ConsumerRecord<String, byte[]>> partition = records(0, Data.V1_MIN);
+        partition.add(new ConsumerRecord<>(TOPIC, 0, 1, "key", new byte[0]));
+        records.put(new TopicPartition(TOPIC, 0), partition);
+        records.put(new TopicPartition(TOPIC, 1), records(1, Data.V1_MIN));
+
+        assertThatThrownBy(() -> new CloudEventBatchDecoder(null, ForkJoinPool.commonPool()).decode(new ConsumerRecords<>(records)))
+            .isInstanceOf(CloudEventRWException.class);
+    }
+
+    private void testDecode(CloudEventBatchDecoder decoder) {
+        Map<TopicPartition, List<ConsumerRecord<String, byte[]>>> records = new HashMap<>();
+        Map<TopicPartition, List<CloudEvent>> expected = new HashMap<>();
+        for (int p = 0; p < 4; p++) {
+            TopicPartition partition = new TopicPartition(TOPIC, p);
+            List<CloudEvent> events = Data.allEvents().collect(Collectors.toList());
+            List<CloudEvent> ordered = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                CloudEvent event = events.get(i % events.size());
+                ordered.add(CloudEventBuilder.from(event).withExtension("sequence", i).build());
+            }
+            List<ConsumerRecord<String, byte[]>> partitionRecords = records(p, ordered.toArray(new CloudEvent[0]));
+            records.put(partition, partitionRecords);
+            // Decode the records one by one to get the expected events
+            expected.put(partition, partitionRecords.stream()
+                .map(record -> KafkaMessageFactory.createReader(record).toEvent())
+                .collect(Collectors.toList()));
+        }
+
+        Map<TopicPartition, List<CloudEvent>> decoded = decoder.decode(new ConsumerRecords<>(records));
+
+        assertThat(decoded).containsOnlyKeys(expected.keySet());
+        expected.forEach((partition, events) -> assertThat(decoded.get(partition))
+            .isEqualTo(events));
+    }
+
+    /**
+     * Encode the events alternating binary and structured mode.
+     */
+    private static List<ConsumerRecord<String, byte[]>> records(int partition, CloudEvent... events) {
+        List<ConsumerRecord<String, byte[]>> records = new ArrayList<>();
+        for (int i = 0; i < events.length; i++) {
+            records.add(toRecord(partition, i, events[i]));
+        }
+        return records;
+    }
+
+    private static ConsumerRecord<String, byte[]> toRecord(int partition, int offset, CloudEvent event) {
+        ProducerRecord<String, byte[]> producerRecord = offset % 2 == 0
+            ? KafkaMessageFactory.createWriter(TOPIC, partition, "key").writeBinary(event)
+            : KafkaMessageFactory.createWriter(TOPIC, partition, "key").writeStructured(event, CSVFormat.INSTANCE);
+        return new ConsumerRecord<>(
+            TOPIC, partition, offset, ConsumerRecord.NO_TIMESTAMP, TimestampType.NO_TIMESTAMP_TYPE,
+            ConsumerRecord.NULL_SIZE, ConsumerRecord.NULL_SIZE, "key", producerRecord.value(), producerRecord.headers(), Optional.empty()
+        );
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.kafka;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.mock.CSVFormat;
+import io.cloudevents.core.provider.EventFormatProvider;
+import io.cloudevents.core.test.Data;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static io.cloudevents.kafka.KafkaUtils.header;
+import static io.cloudevents.kafka.KafkaUtils.kafkaHeaders;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CloudEventFilterInterceptorTest {
+
+    private static final String TOPIC = "test";
+    private static final CloudEvent OTHER_TYPE = CloudEventBuilder.v1(Data.V1_WITH_JSON_DATA).withType("other.type").build();
+
+    @Test
+    public void interceptorWithoutFilter() {
+        CloudEventFilterInterceptor<Void, byte[]> interceptor = new CloudEventFilterInterceptor<>();
+        interceptor.configure(new HashMap<>());
+
+        ConsumerRecords<Void, byte[]> records = records(Collections.singletonList(binary(0, OTHER_TYPE)));
+        assertThat(interceptor.onConsume(records))
+            .isSameAs(records);
+    }
+
+    @Test
+    public void interceptorFiltersBinaryRecordsOnHeaders() {
+        CloudEventFilterInterceptor<Void, byte[]> interceptor = interceptor();
+
+        ConsumerRecord<Void, byte[]> matching = binary(1, Data.V1_WITH_JSON_DATA);
+        ConsumerRecord<Void, byte[]> notCloudEvent = record(3, kafkaHeaders(header("key", "value")), new byte[0]);
+        ConsumerRecords<Void, byte[]> filtered = interceptor.onConsume(records(Arrays.asList(
+            binary(0, OTHER_TYPE),
+            matching,
+            binary(2, OTHER_TYPE),
+            notCloudEvent
+        )));
+
+        assertThat(filtered.records(new TopicPartition(TOPIC, 0)))
+            .containsExactly(matching, notCloudEvent);
+    }
+
+    @Test
+    public void interceptorFiltersDeserializedEvents() {
+        EventFormatProvider.getInstance().registerFormat(CSVFormat.INSTANCE);
+        CloudEventFilterInterceptor<Void, CloudEvent> interceptor = interceptor(CloudEventDeserializer.class);
+
+        Headers structuredHeaders = kafkaHeaders(header("content-type", CSVFormat.INSTANCE.serializedContentType()));
+        ConsumerRecord<Void, CloudEvent> matching = record(0, structuredHeaders, Data.V1_MIN);
+        ConsumerRecords<Void, CloudEvent> filtered = interceptor.onConsume(records(Arrays.asList(
+            matching,
+            record(1, structuredHeaders, OTHER_TYPE)
+        )));
+
+        assertThat(filtered.count())
+            .isEqualTo(1);
+        assertThat(filtered.records(new TopicPartition(TOPIC, 0)))
+            .containsExactly(matching);
+    }
+
+    @Test
+    public void interceptorDropsOnlyNullValuesWithFilteringDeserializer() {
+        EventFormatProvider.getInstance().registerFormat(CSVFormat.INSTANCE);
+        CloudEventFilterInterceptor<Void, CloudEvent> interceptor = interceptor(CloudEventFilteringDeserializer.class);
+
+        Headers structuredHeaders = kafkaHeaders(header("content-type", CSVFormat.INSTANCE.serializedContentType()));
+        ConsumerRecord<Void, CloudEvent> structured = record(0, structuredHeaders, Data.V1_MIN);
+        // Records with a value matched in the deserializer, so the interceptor doesn't evaluate them again
+        ConsumerRecord<Void, CloudEvent> binary = record(1, binary(1, OTHER_TYPE).headers(), OTHER_TYPE);
+        ConsumerRecords<Void, CloudEvent> filtered = interceptor.onConsume(records(Arrays.asList(
+            structured,
+            binary,
+            // Dropped by the filtering deserializer
+            record(2, structuredHeaders, null),
+            record(3, binary(3, OTHER_TYPE).headers(), null)
+        )));
+
+        assertThat(filtered.records(new TopicPartition(TOPIC, 0)))
+            .containsExactly(structured, binary);
+    }
+
+    @Test
+    public void interceptorKeepsTombstones() {
+        EventFormatProvider.getInstance().registerFormat(CSVFormat.INSTANCE);
+        Headers structuredHeaders = kafkaHeaders(header("content-type", CSVFormat.INSTANCE.serializedContentType()));
+        ConsumerRecord<Void, CloudEvent> tombstone = record(0, structuredHeaders, null);
+        ConsumerRecords<Void, CloudEvent> records = records(Collections.singletonList(tombstone));
+
+        CloudEventFilterInterceptor<Void, CloudEvent> withoutDeserializer = interceptor();
+        CloudEventFilterInterceptor<Void, CloudEvent> withDeserializer = interceptor(CloudEventDeserializer.class.getName());
+        CloudEventFilterInterceptor<Void, CloudEvent> withFilteringDeserializer = interceptor(CloudEventFilteringDeserializer.class.getName());
+
+        assertThat(withoutDeserializer.onConsume(records).records(new TopicPartition(TOPIC, 0)))
+            .containsExactly(tombstone);
+        assertThat(withDeserializer.onConsume(records).records(new TopicPartition(TOPIC, 0)))
+            .containsExactly(tombstone);
+        assertThat(withFilteringDeserializer.onConsume(records).isEmpty())
+            .isTrue();
+    }
+
+    @Test
+    public void interceptorKeepsPartitionsOrder() {
+        CloudEventFilterInterceptor<Void, byte[]> interceptor = interceptor();
+
+        Map<TopicPartition, List<ConsumerRecord<Void, byte[]>>> map = new LinkedHashMap<>();
+        for (int i = 16; i > 0; i--) {
+            ConsumerRecord<Void, byte[]> matching = binary(0, Data.V1_WITH_JSON_DATA);
+            map.put(new TopicPartition(TOPIC, i), Arrays.asList(matching, binary(1, OTHER_TYPE)));
+        }
+
+        assertThat(interceptor.onConsume(new ConsumerRecords<>(map)).partitions())
+            .containsExactlyElementsOf(map.keySet());
+    }
+
+    @Test
+    public void interceptorRemovesEmptyPartitions() {
+        CloudEventFilterInterceptor<Void, byte[]> interceptor = interceptor();
+
+        ConsumerRecords<Void, byte[]> filtered = interceptor.onConsume(records(Collections.singletonList(binary(0, OTHER_TYPE))));
+
+        assertThat(filtered.isEmpty())
+            .isTrue();
+        assertThat(filtered.partitions())
+            .isEmpty();
+    }
+
+    private static <V> CloudEventFilterInterceptor<Void, V> interceptor() {
+        return interceptor(null);
+    }
+
+    private static <V> CloudEventFilterInterceptor<Void, V> interceptor(Object valueDeserializer) {
+        CloudEventFilterInterceptor<Void, V> interceptor = new CloudEventFilterInterceptor<>();
+        Map<String, Object> config = new HashMap<>();
+        config.put(CloudEventFilterInterceptor.FILTER_CONFIG, "type = '" + Data.TYPE + "'");
+        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, valueDeserializer);
+        interceptor.configure(config);
+        return interceptor;
+    }
+
+    private static ConsumerRecord<Void, byte[]> binary(long offset, CloudEvent event) {
+        ProducerRecord<Void, byte[]> record = KafkaMessageFactory
+            .createWriter(TOPIC)
+            .writeBinary(event);
+        return record(offset, record.headers(), record.value());
+    }
+
+    private static <V> ConsumerRecord<Void, V> record(long offset, Headers headers, V value) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, 0L, TimestampType.CREATE_TIME, 0, 0, null, value, headers, Optional.empty());
+    }
+
+    private static <V> ConsumerRecords<Void, V> records(List<ConsumerRecord<Void, V>> records) {
+        Map<TopicPartition, List<ConsumerRecord<Void, V>>> map = new HashMap<>();
+        map.put(new TopicPartition(TOPIC, 0), new ArrayList<>(records));
+        return new ConsumerRecords<>(map);
+    }
+
+}
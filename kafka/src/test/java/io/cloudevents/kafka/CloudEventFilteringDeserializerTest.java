@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.kafka;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.mock.CSVFormat;
+import io.cloudevents.core.provider.EventFormatProvider;
+import io.cloudevents.core.test.Data;
+import io.cloudevents.rw.CloudEventDataMapper;
+import io.cloudevents.sql.Parser;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+public class CloudEventFilteringDeserializerTest {
+
+    @Test
+    public void deserializerWithoutFilter() {
+        CloudEventFilteringDeserializer deserializer = new CloudEventFilteringDeserializer();
+        deserializer.configure(new HashMap<>(), false);
+
+        assertThat(deserializeBinary(deserializer, Data.V1_WITH_JSON_DATA))
+            .isEqualTo(Data.V1_WITH_JSON_DATA);
+    }
+
+    @Test
+    public void deserializerFiltersBinaryOnHeaders() {
+        CloudEventDataMapper<?> failingMapper = data -> {
+            throw new IllegalStateException("The payload should not be converted");
+        };
+
+        CloudEventFilteringDeserializer deserializer = new CloudEventFilteringDeserializer();
+        HashMap<String, Object> config = new HashMap<>();
+        config.put(CloudEventFilteringDeserializer.FILTER_CONFIG, "type = 'other.type'");
+        config.put(CloudEventDeserializer.MAPPER_CONFIG, failingMapper);
+        deserializer.configure(config, false);
+
+        assertThat(deserializeBinary(deserializer, Data.V1_WITH_JSON_DATA))
+            .isNull();
+        assertThatCode(() -> deserializeBinary(deserializer, CloudEventBuilder.v1(Data.V1_WITH_JSON_DATA).withType("other.type").build()))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void deserializerWithExpressionInstance() {
+        CloudEventFilteringDeserializer deserializer = new CloudEventFilteringDeserializer();
+        HashMap<String, Object> config = new HashMap<>();
+        config.put(CloudEventFilteringDeserializer.FILTER_CONFIG, Parser.parseDefault("EXISTS subject AND subject = '" + Data.SUBJECT + "'"));
+        deserializer.configure(config, false);
+
+        assertThat(deserializeBinary(deserializer, Data.V1_WITH_JSON_DATA))
+            .isEqualTo(Data.V1_WITH_JSON_DATA);
+        assertThat(deserializeBinary(deserializer, Data.V1_MIN))
+            .isNull();
+    }
+
+    @Test
+    public void deserializerFiltersStructured() {
+        EventFormatProvider.getInstance().registerFormat(CSVFormat.INSTANCE);
+
+        CloudEventFilteringDeserializer deserializer = new CloudEventFilteringDeserializer();
+        HashMap<String, Object> config = new HashMap<>();
+        config.put(CloudEventFilteringDeserializer.FILTER_CONFIG, "type = '" + Data.TYPE + "'");
+        deserializer.configure(config, false);
+
+        CloudEvent otherType = CloudEventBuilder.v1(Data.V1_MIN).withType("other.type").build();
+        assertThat(deserializeStructured(deserializer, Data.V1_MIN))
+            .isEqualTo(Data.V1_MIN);
+        assertThat(deserializeStructured(deserializer, otherType))
+            .isNull();
+    }
+
+    @Test
+    public void deserializerWithInvalidFilter() {
+        CloudEventFilteringDeserializer deserializer = new CloudEventFilteringDeserializer();
+        HashMap<String, Object> config = new HashMap<>();
+        config.put(CloudEventFilteringDeserializer.FILTER_CONFIG, 1);
+
+        assertThatCode(() -> deserializer.configure(config, false))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private CloudEvent deserializeBinary(CloudEventFilteringDeserializer deserializer, CloudEvent event) {
+        ProducerRecord<Void, byte[]> record = KafkaMessageFactory
+            .createWriter("test")
+            .writeBinary(event);
+        return deserializer.deserialize("test", record.headers(), record.value());
+    }
+
+    private CloudEvent deserializeStructured(CloudEventFilteringDeserializer deserializer, CloudEvent event) {
+        ProducerRecord<Void, byte[]> record = KafkaMessageFactory
+            .createWriter("test")
+            .writeStructured(event, CSVFormat.INSTANCE);
+        return deserializer.deserialize("test", record.headers(), record.value());
+    }
+
+}
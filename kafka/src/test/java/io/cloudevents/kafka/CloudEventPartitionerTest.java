@@ -0,0 +1,163 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.kafka;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.test.Data;
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.common.utils.Utils;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+public class CloudEventPartitionerTest {
+
+    private static final String TOPIC = "test";
+    private static final Cluster CLUSTER = cluster(16);
+
+    @Test
+    public void murmur2MatchesKafka() {
+        Random random = new Random(0);
+        List<String> values = new ArrayList<>(Arrays.asList("", "a", "ab", "abc", "abcd", "abcde", "http://localhost/source", "h\u00e9llo", "\u65e5\u672c", "\ud83d\ude00abc", "abc\ud800"));
+        for (int i = 0; i < 200; i++) {
+            char[] chars = new char[random.nextInt(24)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = (char) (i % 2 == 0 ? random.nextInt(0x80) : random.nextInt(0x800));
+            }
+            values.add(new String(chars));
+        }
+
+        for (String value : values) {
+            assertThat(CloudEventPartitioner.murmur2(value))
+                .as(value)
+                .isEqualTo(Utils.murmur2(value.getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    @Test
+    public void partitionKeyMatchesStringKey() {
+        CloudEventPartitioner partitioner = partitioner(null);
+
+        for (int i = 0; i < 100; i++) {
+            String partitionKey = "key-" + i;
+            CloudEvent event = CloudEventBuilder.v1(Data.V1_MIN)
+                .withExtension(CloudEventPartitioner.PARTITION_KEY_EXTENSION, partitionKey)
+                .build();
+            byte[] keyBytes = new StringSerializer().serialize(TOPIC, partitionKey);
+
+            assertThat(partitioner.partition(TOPIC, null, null, event, null, CLUSTER))
+                .isEqualTo(Utils.toPositive(Utils.murmur2(keyBytes)) % 16)
+                .isEqualTo(partitioner.partition(TOPIC, partitionKey, keyBytes, "not an event", null, CLUSTER));
+        }
+    }
+
+    @Test
+    public void partitionOnFirstAvailableAttribute() {
+        CloudEventPartitioner partitioner = partitioner("partitionkey, subject,source");
+
+        CloudEvent withSubject = CloudEventBuilder.v1(Data.V1_MIN)
+            .withSubject("subject-a")
+            .build();
+        assertThat(partitioner.partition(TOPIC, null, null, withSubject, null, CLUSTER))
+            .isEqualTo(Utils.toPositive(Utils.murmur2("subject-a".getBytes(StandardCharsets.UTF_8))) % 16);
+        assertThat(partitioner.partition(TOPIC, null, null, Data.V1_MIN, null, CLUSTER))
+            .isEqualTo(Utils.toPositive(Utils.murmur2(Data.SOURCE.toString().getBytes(StandardCharsets.UTF_8))) % 16);
+    }
+
+    @Test
+    public void partitionWithAttributesList() {
+        CloudEventPartitioner partitioner = partitioner(Arrays.asList("dataschema", "type"));
+
+        // dataschema is not an attribute of v0.3
+        assertThat(partitioner.partition(TOPIC, null, null, Data.V03_WITH_JSON_DATA, null, CLUSTER))
+            .isEqualTo(Utils.toPositive(Utils.murmur2(Data.TYPE.getBytes(StandardCharsets.UTF_8))) % 16);
+        assertThat(partitioner.partition(TOPIC, null, null, Data.V1_WITH_JSON_DATA, null, CLUSTER))
+            .isEqualTo(Utils.toPositive(Utils.murmur2(Data.DATASCHEMA.toString().getBytes(StandardCharsets.UTF_8))) % 16);
+    }
+
+    @Test
+    public void fallbackToKey() {
+        CloudEventPartitioner partitioner = partitioner(null);
+        byte[] keyBytes = "key".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(partitioner.partition(TOPIC, "key", keyBytes, Data.V1_MIN, null, CLUSTER))
+            .isEqualTo(Utils.toPositive(Utils.murmur2(keyBytes)) % 16);
+        assertThat(partitioner.partition(TOPIC, "key", keyBytes, "not an event", null, CLUSTER))
+            .isEqualTo(Utils.toPositive(Utils.murmur2(keyBytes)) % 16);
+    }
+
+    @Test
+    public void stickyWithoutKey() {
+        CloudEventPartitioner partitioner = partitioner(null);
+
+        int partition = partitioner.partition(TOPIC, null, null, Data.V1_MIN, null, CLUSTER);
+
+        assertThat(partition)
+            .isBetween(0, 15);
+        assertThat(partitioner.partition(TOPIC, null, null, "not an event", null, CLUSTER))
+            .isEqualTo(partition);
+    }
+
+    @Test
+    public void invalidAttributesConfig() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(CloudEventPartitioner.PARTITION_ATTRIBUTES_CONFIG, 1);
+
+        assertThatCode(() -> new CloudEventPartitioner().configure(config))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        config.put(CloudEventPartitioner.PARTITION_ATTRIBUTES_CONFIG, Collections.emptyList());
+
+        assertThatCode(() -> new CloudEventPartitioner().configure(config))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static CloudEventPartitioner partitioner(Object attributes) {
+        Map<String, Object> config = new HashMap<>();
+        if (attributes != null) {
+            config.put(CloudEventPartitioner.PARTITION_ATTRIBUTES_CONFIG, attributes);
+        }
+        CloudEventPartitioner partitioner = new CloudEventPartitioner();
+        partitioner.configure(config);
+        return partitioner;
+    }
+
+    private static Cluster cluster(int partitions) {
+        Node node = new Node(0, "localhost", 9092);
+        List<PartitionInfo> infos = new ArrayList<>();
+        for (int i = 0; i < partitions; i++) {
+            infos.add(new PartitionInfo(TOPIC, i, node, new Node[]{node}, new Node[]{node}));
+        }
+        return new Cluster("cluster", Collections.singletonList(node), infos, Collections.emptySet(), Collections.emptySet());
+    }
+
+}
@@ -18,6 +18,7 @@
 package io.cloudevents.kafka;
 
 import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
 import io.cloudevents.core.message.Encoding;
 import io.cloudevents.core.message.MessageReader;
 import io.cloudevents.core.mock.CSVFormat;
@@ -27,7 +28,9 @@ import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -89,6 +92,29 @@ public class CloudEventSerializerTest {
         assertProducesMessagesWithEncoding(serializer, Encoding.STRUCTURED);
     }
 
+    @Test
+    public void serializerWithEncodingStructuredWritesFormatBytes() {
+        CloudEventSerializer serializer = new CloudEventSerializer();
+
+        EventFormatProvider.getInstance().registerFormat(CSVFormat.INSTANCE);
+
+        HashMap<String, Object> config = new HashMap<>();
+        config.put(CloudEventSerializer.ENCODING_CONFIG, "STRUCTURED");
+        config.put(CloudEventSerializer.EVENT_FORMAT_CONFIG, CSVFormat.INSTANCE.serializedContentType());
+        serializer.configure(config, false);
+
+        byte[] largeData = new byte[2 << 20];
+        Arrays.fill(largeData, (byte) 'a');
+        CloudEvent largeEvent = CloudEventBuilder.v1(Data.V1_WITH_TEXT_DATA)
+            .withData(largeData)
+            .build();
+
+        // The per thread buffer is reused between events, and dropped after large ones
+        Stream.concat(Data.allEvents(), Stream.of(largeEvent, Data.V1_MIN, Data.V1_WITH_JSON_DATA))
+            .forEach(event -> assertThat(serializer.serialize("test", new RecordHeaders(), event))
+                .isEqualTo(CSVFormat.INSTANCE.serialize(event)));
+    }
+
     private void assertProducesMessagesWithEncoding(CloudEventSerializer serializer, Encoding expectedEncoding) {
         String topic = "test";
         CloudEvent event = Data.V1_MIN;
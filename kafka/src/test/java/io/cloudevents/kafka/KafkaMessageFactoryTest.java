@@ -19,12 +19,17 @@ package io.cloudevents.kafka;
 
 import io.cloudevents.CloudEvent;
 import io.cloudevents.SpecVersion;
+import io.cloudevents.core.builder.CloudEventBuilder;
 import io.cloudevents.core.message.Encoding;
 import io.cloudevents.core.message.MessageReader;
 import io.cloudevents.core.mock.CSVFormat;
+import io.cloudevents.rw.CloudEventRWException;
 import io.cloudevents.types.Time;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
 import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -36,6 +41,7 @@ import static io.cloudevents.core.test.Data.*;
 import static io.cloudevents.kafka.KafkaUtils.header;
 import static io.cloudevents.kafka.KafkaUtils.kafkaHeaders;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class KafkaMessageFactoryTest {
 
@@ -50,6 +56,61 @@ public class KafkaMessageFactoryTest {
             .isEqualTo(event);
     }
 
+    @ParameterizedTest()
+    @MethodSource("binaryTestArguments")
+    public void readBinaryLazy(Headers headers, byte[] body, CloudEvent event) {
+        CloudEvent lazyEvent = KafkaMessageFactory.createReader(headers, body).toLazyEvent();
+
+        assertThat(lazyEvent.getType())
+            .isEqualTo(event.getType());
+        assertThat(lazyEvent.getExtensionNames())
+            .containsExactlyInAnyOrderElementsOf(event.getExtensionNames());
+        assertThat(CloudEventBuilder.from(lazyEvent).build())
+            .isEqualTo(event);
+    }
+
+    @Test
+    public void readBinaryLazyDefersValidation() {
+        CloudEvent lazyEvent = KafkaMessageFactory.createReader(
+            kafkaHeaders(
+                header("ce_specversion", SpecVersion.V1.toString()),
+                header("ce_id", ID),
+                header("ce_type", TYPE),
+                header("ce_source", SOURCE.toString()),
+                header("ce_time", "not a time")
+            ),
+            null
+        ).toLazyEvent();
+
+        assertThat(lazyEvent.getType())
+            .isEqualTo(TYPE);
+        assertThat(lazyEvent.getSource())
+            .isEqualTo(SOURCE);
+        assertThatThrownBy(lazyEvent::getTime)
+            .isInstanceOf(CloudEventRWException.class);
+    }
+
+    @ParameterizedTest()
+    @MethodSource("binaryTestArguments")
+    public void transcodeBinaryWithoutSharingHeaders(Headers headers, byte[] body, CloudEvent event) {
+        ProducerRecord<String, byte[]> record = KafkaMessageFactory.createReader(headers, body)
+            .read(KafkaMessageFactory.createWriter("aaa", null, null, "key"));
+
+        for (Header header : headers) {
+            if (!header.key().equals("ce_specversion") && (header.key().startsWith("ce_") || header.key().equals("content-type"))) {
+                assertThat(record.headers().lastHeader(header.key()).value())
+                    .isEqualTo(header.value())
+                    .isNotSameAs(header.value());
+            }
+        }
+        assertThat(record.headers().lastHeader("ignored"))
+            .isNull();
+        assertThat(record.value())
+            .isSameAs(body);
+        assertThat(KafkaMessageFactory.createReader(record.headers(), record.value()).toEvent())
+            .isEqualTo(event);
+    }
+
     @ParameterizedTest()
     @MethodSource("io.cloudevents.core.test.Data#allEventsWithoutExtensions")
     public void readStructured(CloudEvent event) {
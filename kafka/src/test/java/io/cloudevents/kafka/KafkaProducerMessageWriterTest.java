@@ -19,6 +19,7 @@ package io.cloudevents.kafka;
 
 import io.cloudevents.CloudEvent;
 import io.cloudevents.SpecVersion;
+import io.cloudevents.core.format.CachingEventFormat;
 import io.cloudevents.core.message.StructuredMessageReader;
 import io.cloudevents.core.mock.CSVFormat;
 import io.cloudevents.kafka.impl.KafkaHeaders;
@@ -69,6 +70,20 @@ public class KafkaProducerMessageWriterTest {
             .isEqualTo(expectedBuffer);
     }
 
+    @ParameterizedTest
+    @MethodSource("io.cloudevents.core.test.Data#allEventsWithoutExtensions")
+    void testRequestWithStructuredUsesTheCachedArray(CloudEvent event) {
+        CachingEventFormat format = new CachingEventFormat(CSVFormat.INSTANCE);
+        byte[] cached = format.serialize(event);
+
+        ProducerRecord<String, byte[]> producerRecord = KafkaMessageFactory
+            .createWriter("test", 10, System.currentTimeMillis(), "aaa")
+            .writeStructured(event, format);
+
+        assertThat(producerRecord.value())
+            .isSameAs(cached);
+    }
+
     @ParameterizedTest
     @MethodSource("binaryTestArguments")
     void testRequestWithBinary(CloudEvent event, Headers expectedHeaders, byte[] expectedBody) {
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package io.cloudevents.kafka.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KafkaHeadersTest {
+
+    @Test
+    void attributeNamesAreCached() {
+        String name = KafkaHeaders.toAttributeName(new String("ce_MyExtension"));
+
+        assertThat(name).isEqualTo("myextension");
+        assertThat(KafkaHeaders.toAttributeName(new String("ce_MyExtension"))).isSameAs(name);
+        assertThat(KafkaHeaders.toHeaderKey("myextension")).isEqualTo("ce_myextension");
+        assertThat(KafkaHeaders.toHeaderKey("datacontenttype")).isEqualTo(KafkaHeaders.CONTENT_TYPE);
+    }
+
+    @Test
+    void repeatedValuesAreDecodedOnce() {
+        byte[] type = "com.example.someevent".getBytes(StandardCharsets.UTF_8);
+        String decoded = KafkaHeaders.decodeValue("type", type);
+
+        // The cache must not depend on the array of the decoded header
+        type[0] = 'x';
+
+        assertThat(KafkaHeaders.decodeValue("type", "com.example.someevent".getBytes(StandardCharsets.UTF_8)))
+            .isEqualTo("com.example.someevent")
+            .isSameAs(decoded);
+        assertThat(KafkaHeaders.decodeValue("type", type))
+            .isEqualTo("xom.example.someevent");
+        assertThat(KafkaHeaders.decodeValue("id", "1".getBytes(StandardCharsets.UTF_8)))
+            .isNotSameAs(KafkaHeaders.decodeValue("id", "1".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void namesCacheIsBounded() {
+        for (int i = 0; i < 10000; i++) {
+            assertThat(KafkaHeaders.toAttributeName("ce_ext" + i)).isEqualTo("ext" + i);
+            assertThat(KafkaHeaders.toHeaderKey("ext" + i)).isEqualTo("ce_ext" + i);
+        }
+        assertThat(KafkaHeaders.toHeaderKey("datacontenttype")).isEqualTo(KafkaHeaders.CONTENT_TYPE);
+        assertThat(KafkaHeaders.toHeaderKey("specversion")).isEqualTo(KafkaHeaders.SPEC_VERSION);
+    }
+}
@@ -19,6 +19,7 @@ import io.cloudevents.CloudEvent;
 import io.cloudevents.CloudEventData;
 import io.cloudevents.SpecVersion;
 import io.cloudevents.core.CloudEventUtils;
+import io.cloudevents.core.data.BinaryCloudEventData;
 import io.cloudevents.core.format.EventFormat;
 import io.cloudevents.core.message.MessageWriter;
 import io.cloudevents.rw.CloudEventContextWriter;
@@ -95,7 +96,10 @@ public class CloudEventHttpMessageWriter implements HttpMessageWriter<CloudEvent
 
         @Override
         public Mono<Void> end(CloudEventData value) throws CloudEventRWException {
-            return copy(value.toBytes(), this.response);
+            BinaryCloudEventData data = BinaryCloudEventData.from(value);
+            DataBuffer buffer = this.response.bufferFactory().wrap(data.asReadOnlyByteBuffer());
+            this.response.getHeaders().setContentLength(data.length());
+            return this.response.writeWith(Mono.just(buffer));
         }
 
         @Override
@@ -1,5 +1,6 @@
 package io.cloudevents.sql.impl.expressions;
 
+import io.cloudevents.AttributeKey;
 import io.cloudevents.CloudEvent;
 import io.cloudevents.SpecVersion;
 import io.cloudevents.sql.EvaluationRuntime;
@@ -44,7 +45,8 @@ public class AccessAttributeExpression extends BaseExpression {
     }
 
     private static Function<CloudEvent, Object> generateGetter(String key) {
-        return SpecVersion.V1.getAllAttributes().contains(key) ? ce -> ce.getAttribute(key) : ce -> ce.getExtension(key);
+        AttributeKey attribute = AttributeKey.lookup(SpecVersion.V1, key);
+        return attribute != null ? attribute::get : ce -> ce.getExtension(key);
     }
 
     private static Object coherceTypes(Object value) {